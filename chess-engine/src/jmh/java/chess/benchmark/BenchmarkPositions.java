@@ -0,0 +1,62 @@
+package chess.benchmark;
+
+import chess.board.Board;
+
+/**
+ * The fixed corpus of positions every benchmark runs over, so that numbers taken before and after a change
+ * are comparable. It mixes opening, middlegame and endgame positions with different piece counts, checks,
+ * pins and promotions.
+ */
+public final class BenchmarkPositions {
+
+    public static final String[] MIDDLEGAME = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "r1bq1rk1/pp2ppbp/2np1np1/8/3NP3/2N1BP2/PPPQ2PP/R3KB1R b KQ - 2 9"
+    };
+
+    public static final String[] ENDGAME = {
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "8/8/4k3/3p4/3P4/4K3/8/8 w - - 0 1",
+            "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1",
+            "8/5pk1/6p1/7p/7P/6P1/5PK1/4q3 b - - 0 40",
+            "4k3/8/8/8/8/8/4P3/4K3 w - - 0 1",
+            "8/1P6/8/8/8/6k1/8/4K2R w K - 0 1"
+    };
+
+    private BenchmarkPositions() {
+    }
+
+    /**
+     * @return The FENs of the given corpus, "middlegame", "endgame" or "all".
+     */
+    public static String[] corpus(String name) {
+        return switch (name) {
+            case "middlegame" -> MIDDLEGAME;
+            case "endgame" -> ENDGAME;
+            case "all" -> {
+                String[] all = new String[MIDDLEGAME.length + ENDGAME.length];
+                System.arraycopy(MIDDLEGAME, 0, all, 0, MIDDLEGAME.length);
+                System.arraycopy(ENDGAME, 0, all, MIDDLEGAME.length, ENDGAME.length);
+                yield all;
+            }
+            default -> throw new IllegalArgumentException("Unknown benchmark corpus: " + name);
+        };
+    }
+
+    /**
+     * @return One board per FEN of the given corpus.
+     */
+    public static Board[] boards(String name) {
+        String[] fens = corpus(name);
+        Board[] boards = new Board[fens.length];
+        for (int i = 0; i < fens.length; i++) {
+            boards[i] = new Board();
+            boards[i].readFEN(fens[i]);
+        }
+        return boards;
+    }
+}
@@ -0,0 +1,55 @@
+package chess.benchmark;
+
+import chess.board.Bitboard;
+import chess.board.Board;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Piece placement, removal and square lookups on the bitboards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Thread)
+public class BitboardBenchmark {
+
+    @Param({"middlegame", "endgame"})
+    public String corpus;
+
+    private Board[] boards;
+
+    @Setup
+    public void setup() {
+        boards = BenchmarkPositions.boards(corpus);
+    }
+
+    @Benchmark
+    public void placeAndRemovePiece(Blackhole blackhole) {
+        for (Board board : boards) {
+            Bitboard bitboard = board.getBitboard();
+            // e.g. a knight landing on and leaving an empty central square
+            for (int square = 16; square < 48; square++) {
+                if (bitboard.pieceAt(square) >= 0) continue;
+                bitboard.placePieceOnSquare(square, PieceType.KNIGHT, PieceColor.WHITE);
+                bitboard.removePieceFromSquare(square, PieceType.KNIGHT, PieceColor.WHITE);
+            }
+            blackhole.consume(bitboard.getZobristKey());
+        }
+    }
+
+    @Benchmark
+    public void getPieceTypeAtSquare(Blackhole blackhole) {
+        for (Board board : boards) {
+            for (int square = 0; square < 64; square++) {
+                blackhole.consume(board.getPieceTypeAtSquare(square));
+            }
+        }
+    }
+}
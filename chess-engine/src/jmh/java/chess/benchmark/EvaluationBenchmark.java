@@ -0,0 +1,65 @@
+package chess.benchmark;
+
+import chess.board.Board;
+import chess.engine.evaluation.Rating;
+import chess.engine.evaluation.pawn_structure.PawnHashTable;
+import chess.engine.evaluation.piece_board_evaluation.MaterialBoardEvaluation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Static evaluation of every corpus position.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Thread)
+public class EvaluationBenchmark {
+
+    @Param({"middlegame", "endgame"})
+    public String corpus;
+
+    private Board[] boards;
+    private final PawnHashTable pawnTable = new PawnHashTable(192);
+
+    @Setup
+    public void setup() {
+        boards = BenchmarkPositions.boards(corpus);
+    }
+
+    @Benchmark
+    public void evaluate(Blackhole blackhole) {
+        for (Board board : boards) {
+            blackhole.consume(Rating.evaluate(board));
+        }
+    }
+
+    /**
+     * The evaluation of the search with the pawn structure, mobility and king safety terms. The attack maps of
+     * the boards stay valid, as in the search, which builds them to test for check.
+     */
+    @Benchmark
+    public void searchEvaluate(Blackhole blackhole) {
+        for (Board board : boards) {
+            blackhole.consume(Rating.evaluate(board, pawnTable));
+        }
+    }
+
+    @Benchmark
+    public void rating(Blackhole blackhole) {
+        for (Board board : boards) {
+            blackhole.consume(Rating.rating(board));
+        }
+    }
+
+    @Benchmark
+    public void materialBoardEvaluation(Blackhole blackhole) {
+        for (Board board : boards) {
+            blackhole.consume(MaterialBoardEvaluation.eval(board));
+        }
+    }
+}
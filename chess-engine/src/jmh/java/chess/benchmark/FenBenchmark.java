@@ -0,0 +1,50 @@
+package chess.benchmark;
+
+import chess.board.Board;
+import chess.board.FenCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FEN round trips: reading every corpus position into a reused board and writing the full FEN back into a
+ * reused builder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Thread)
+public class FenBenchmark {
+
+    @Param({"middlegame", "endgame"})
+    public String corpus;
+
+    private String[] fens;
+    private final Board board = new Board();
+    private final StringBuilder out = new StringBuilder(128);
+
+    @Setup
+    public void setup() {
+        fens = BenchmarkPositions.corpus(corpus);
+    }
+
+    @Benchmark
+    public void readFEN(Blackhole blackhole) {
+        for (String fen : fens) {
+            board.readFEN(fen);
+            blackhole.consume(board.getZobristKey());
+        }
+    }
+
+    @Benchmark
+    public void roundTrip(Blackhole blackhole) {
+        for (String fen : fens) {
+            board.readFEN(fen);
+            out.setLength(0);
+            blackhole.consume(FenCodec.write(board, out).length());
+        }
+    }
+}
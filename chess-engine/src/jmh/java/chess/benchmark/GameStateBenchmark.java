@@ -0,0 +1,52 @@
+package chess.benchmark;
+
+import chess.board.Board;
+import chess.state.GameState;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Check and checkmate detection. The cached attack map is invalidated before every call, so each call pays
+ * for the attack computation like the first call in a freshly reached position does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Thread)
+public class GameStateBenchmark {
+
+    @Param({"middlegame", "endgame"})
+    public String corpus;
+
+    private Board[] boards;
+    private GameState[] gameStates;
+
+    @Setup
+    public void setup() {
+        boards = BenchmarkPositions.boards(corpus);
+        gameStates = new GameState[boards.length];
+        for (int i = 0; i < boards.length; i++) {
+            gameStates[i] = new GameState(boards[i]);
+        }
+    }
+
+    @Benchmark
+    public void isKingInCheck(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            boards[i].getAttackMap().invalidate();
+            blackhole.consume(gameStates[i].isKingInCheck());
+        }
+    }
+
+    @Benchmark
+    public void isKingInCheckmate(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            boards[i].getAttackMap().invalidate();
+            blackhole.consume(gameStates[i].isKingInCheckmate());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package chess.benchmark;
+
+import chess.ai_player.move_generation.*;
+import chess.board.Bitboard;
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move generation of every generator for all pieces of the side to move, once per corpus position.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Thread)
+public class MoveGenerationBenchmark {
+
+    @Param({"middlegame", "endgame"})
+    public String corpus;
+
+    private Board[] boards;
+    private PawnMoveGenerator[] pawnGenerators;
+    private KnightMoveGenerator[] knightGenerators;
+    private KingMoveGenerator[] kingGenerators;
+    private SlidingPieceMoveGenerator[] slidingGenerators;
+    private final MoveList moves = new MoveList();
+
+    @Setup
+    public void setup() {
+        boards = BenchmarkPositions.boards(corpus);
+        pawnGenerators = new PawnMoveGenerator[boards.length];
+        knightGenerators = new KnightMoveGenerator[boards.length];
+        kingGenerators = new KingMoveGenerator[boards.length];
+        slidingGenerators = new SlidingPieceMoveGenerator[boards.length];
+        for (int i = 0; i < boards.length; i++) {
+            pawnGenerators[i] = new PawnMoveGenerator(boards[i]);
+            knightGenerators[i] = new KnightMoveGenerator(boards[i]);
+            kingGenerators[i] = new KingMoveGenerator(boards[i]);
+            slidingGenerators[i] = new SlidingPieceMoveGenerator(boards[i]);
+        }
+    }
+
+    private static long pieces(Board board, PieceType pieceType) {
+        Bitboard bitboard = board.getBitboard();
+        return bitboard.getBitboardForPieceTypeAndColor(pieceType, board.getCurrentPlayer());
+    }
+
+    @Benchmark
+    public void pawnMoveGenerator(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            PieceColor color = boards[i].getCurrentPlayer();
+            for (long pawns = pieces(boards[i], PieceType.PAWN); pawns != 0; pawns &= pawns - 1) {
+                blackhole.consume(pawnGenerators[i].generateMovesForPawn(Long.numberOfTrailingZeros(pawns), color));
+            }
+        }
+    }
+
+    @Benchmark
+    public void knightMoveGenerator(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            PieceColor color = boards[i].getCurrentPlayer();
+            for (long knights = pieces(boards[i], PieceType.KNIGHT); knights != 0; knights &= knights - 1) {
+                blackhole.consume(knightGenerators[i].generateMovesForKnight(Long.numberOfTrailingZeros(knights), color));
+            }
+        }
+    }
+
+    @Benchmark
+    public void kingMoveGenerator(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            PieceColor color = boards[i].getCurrentPlayer();
+            blackhole.consume(kingGenerators[i].generateMovesForKing(boards[i].getKingPosition(color), color));
+        }
+    }
+
+    @Benchmark
+    public void slidingPieceMoveGenerator(Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            PieceColor color = boards[i].getCurrentPlayer();
+            for (PieceType pieceType : new PieceType[]{PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN}) {
+                for (long sliders = pieces(boards[i], pieceType); sliders != 0; sliders &= sliders - 1) {
+                    blackhole.consume(slidingGenerators[i].generateMovesForSlidingPiece(Long.numberOfTrailingZeros(sliders), color, pieceType));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateAll(Blackhole blackhole) {
+        for (Board board : boards) {
+            MoveGenerator.generateAll(board, moves);
+            blackhole.consume(moves.size());
+        }
+    }
+
+    @Benchmark
+    public void generateLegal(Blackhole blackhole) {
+        for (Board board : boards) {
+            // Measure the attack map along with the generation instead of reusing the cached one
+            board.getAttackMap().invalidate();
+            MoveGenerator.generateLegal(board, moves);
+            blackhole.consume(moves.size());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package chess.benchmark;
+
+import chess.ai_player.move_generation.MoveGenerator;
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.PackedMove;
+import chess.board.Piece;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import chess.engine.move_validation.service.MoveValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MoveValidator} per piece type, validating every pseudo-legal move of that piece type in the corpus.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Thread)
+public class MoveValidationBenchmark {
+
+    @Param({"middlegame", "endgame"})
+    public String corpus;
+
+    private Board[] boards;
+    private MoveList[] moves;
+
+    @Setup
+    public void setup() {
+        boards = BenchmarkPositions.boards(corpus);
+        moves = new MoveList[boards.length];
+        for (int i = 0; i < boards.length; i++) {
+            moves[i] = new MoveList();
+            MoveGenerator.generateAll(boards[i], moves[i]);
+        }
+    }
+
+    private void validate(PieceType pieceType, Blackhole blackhole) {
+        for (int i = 0; i < boards.length; i++) {
+            Board board = boards[i];
+            PieceColor color = board.getCurrentPlayer();
+            int piece = Piece.code(pieceType, color);
+            for (int j = 0; j < moves[i].size(); j++) {
+                int move = moves[i].get(j);
+                if (PackedMove.piece(move) != piece) continue;
+                int from = PackedMove.from(move);
+                int to = PackedMove.to(move);
+                blackhole.consume(switch (pieceType) {
+                    case PAWN -> MoveValidator.validatePawnMoves(board, from, to, color);
+                    case KNIGHT -> MoveValidator.validateKnightMoves(board, from, to, color);
+                    case BISHOP -> MoveValidator.validateBishopMoves(board, from, to, color);
+                    case ROOK -> MoveValidator.validateRookMoves(board, from, to, color);
+                    case QUEEN -> MoveValidator.validateQueenMoves(board, from, to, color);
+                    case KING -> MoveValidator.validateKingMoves(board, from, to, color);
+                });
+            }
+        }
+    }
+
+    @Benchmark
+    public void validatePawnMoves(Blackhole blackhole) {
+        validate(PieceType.PAWN, blackhole);
+    }
+
+    @Benchmark
+    public void validateKnightMoves(Blackhole blackhole) {
+        validate(PieceType.KNIGHT, blackhole);
+    }
+
+    @Benchmark
+    public void validateBishopMoves(Blackhole blackhole) {
+        validate(PieceType.BISHOP, blackhole);
+    }
+
+    @Benchmark
+    public void validateRookMoves(Blackhole blackhole) {
+        validate(PieceType.ROOK, blackhole);
+    }
+
+    @Benchmark
+    public void validateQueenMoves(Blackhole blackhole) {
+        validate(PieceType.QUEEN, blackhole);
+    }
+
+    @Benchmark
+    public void validateKingMoves(Blackhole blackhole) {
+        validate(PieceType.KING, blackhole);
+    }
+}
@@ -1,3 +1,6 @@
+import chess.ai_player.AIPlayer;
+import chess.ai_player.SearchLimits;
+import chess.ai_player.TimeManager;
 import config.ConfigLoader;
 import io.rsocket.SocketAcceptor;
 import io.rsocket.core.RSocketServer;
@@ -5,20 +8,31 @@ import io.rsocket.transport.netty.server.CloseableChannel;
 import io.rsocket.transport.netty.server.TcpServerTransport;
 import io.rsocket.util.DefaultPayload;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public class ChessEngineApplication {
 
     public static void main(String[] args) {
         ConfigLoader config = new ConfigLoader();
         int port = config.getServerPort();
+        AIPlayer aiPlayer = new AIPlayer(config);
 
         RSocketServer rSocketServer = RSocketServer.create(SocketAcceptor.forRequestResponse(
                 payload -> {
-                    System.out.println("Received: " + payload.getDataUtf8());
+                    String fen = payload.getDataUtf8();
+                    String metadata = payload.hasMetadata() ? payload.getMetadataUtf8().trim() : "";
+                    System.out.println("Received: " + fen);
 
-                    //FIXME This should be the entry call to do the AI move, so it response best AI move!
-                    // The cool thing is, we don't need to send json, just the FEN string - Well done Mikkel!
-                    return Mono.just(DefaultPayload.create("Hello, " + payload.getDataUtf8()));
+                    // The request is the FEN of the position, the response the FEN after the engine's move.
+                    // The search runs off the network threads, so a long search does not block other connections.
+                    // The clock of the move starts now, and a requester going away cancels the search.
+                    return Mono.defer(() -> {
+                        RequestOptions options = RequestOptions.parse(metadata, config.getSearchThreads(), aiPlayer.getLimits());
+                        TimeManager timeManager = new TimeManager(options.limits());
+                        return Mono.fromCallable(() -> DefaultPayload.create(aiPlayer.play(options.gameId(), fen, options.threads(), timeManager)))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .doOnCancel(timeManager::stop);
+                    });
                 }));
 
         //FIXME This needs to be environmental values, ensuring Docker can pinpoint to the gateway/backend for connection
@@ -28,4 +42,54 @@ public class ChessEngineApplication {
 
         server.onClose().block();
     }
+
+    /**
+     * The search options of a request, read from its metadata: either just the number of search threads, or
+     * {@code key=value} pairs separated by spaces or semicolons, with the keys {@code game} (the id of the game,
+     * for pondering), {@code threads}, {@code depth},
+     * {@code movetime} (milliseconds for this move), {@code time} and {@code inc} (clock and increment of the
+     * engine in milliseconds) and {@code nodes}. A clock replaces the configured time per move, unless the
+     * request also fixes the move time.
+     */
+    private record RequestOptions(String gameId, int threads, SearchLimits limits) {
+
+        /**
+         * @throws NumberFormatException if a value is not a number.
+         */
+        static RequestOptions parse(String metadata, int defaultThreads, SearchLimits defaults) {
+            if (metadata.isEmpty()) return new RequestOptions(null, defaultThreads, defaults);
+            if (metadata.indexOf('=') < 0) return new RequestOptions(null, Integer.parseInt(metadata), defaults);
+
+            String gameId = null;
+            int threads = defaultThreads;
+            SearchLimits limits = defaults;
+            long time = -1;
+            long increment = 0;
+            boolean moveTime = false;
+            for (String option : metadata.split("[\\s;]+")) {
+                int separator = option.indexOf('=');
+                if (separator < 0) continue;
+                String value = option.substring(separator + 1);
+                switch (option.substring(0, separator)) {
+                    case "game" -> gameId = value;
+                    case "threads" -> threads = Integer.parseInt(value);
+                    case "depth" -> limits = limits.withMaxDepth(Integer.parseInt(value));
+                    case "movetime" -> {
+                        limits = limits.withMoveTime(Long.parseLong(value));
+                        moveTime = true;
+                    }
+                    case "time" -> time = Long.parseLong(value);
+                    case "inc" -> increment = Long.parseLong(value);
+                    case "nodes" -> limits = limits.withMaxNodes(Long.parseLong(value));
+                    default -> {
+                        // Unknown options are ignored, so the engine accepts requests of newer clients
+                    }
+                }
+            }
+            if (time >= 0 && !moveTime) {
+                limits = limits.withClock(time, increment);
+            }
+            return new RequestOptions(gameId, threads, limits);
+        }
+    }
 }
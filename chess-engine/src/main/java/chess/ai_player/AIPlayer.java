@@ -1,4 +1,200 @@
 package chess.ai_player;
 
+import chess.board.Board;
+import chess.board.FenCodec;
+import chess.board.PackedMove;
+import config.ConfigLoader;
+
+/**
+ * Entry point of the engine for the server: takes the FEN of the position the engine has to move in, searches
+ * it within the configured depth and time budget ({@code engine.search.depth} and
+ * {@code engine.search.movetime}) and answers with the position after the engine's move. The transposition
+ * table ({@code engine.hash.size} megabytes) is kept between requests.
+ * <p>
+ * A request may search with several threads ({@link LazySmpSearch}), {@code engine.search.threads} by default
+ * and never more than {@code engine.search.threads.max}. Requests are searched one at a time, so every request
+ * gets the full CPU budget of the search. The selective search techniques are switched by the
+ * {@code engine.search.*} flags ({@link SearchOptions}).
+ * <p>
+ * Requests naming their game are pondered: after the engine's move, the position after the expected reply is
+ * searched in the background until the game's next request ({@link PonderManager}, at most
+ * {@code engine.ponder.threads} at a time). Every search of a request first stops all ponder searches.
+ */
 public class AIPlayer {
+
+    private final LazySmpSearch search;
+    private final PonderManager ponderManager;
+    private final Board board = new Board();
+    private final SearchLimits limits;
+    private final int threads;
+
+    public AIPlayer() {
+        this(new ConfigLoader());
+    }
+
+    public AIPlayer(ConfigLoader config) {
+        this(config.getSearchDepth(), config.getSearchMoveTime(), config.getHashSizeMb(),
+                config.getSearchThreads(), config.getMaxSearchThreads(), SearchOptions.fromConfig(config),
+                config.getPonderThreads());
+    }
+
+    public AIPlayer(int maxDepth, long moveTimeMillis, int hashSizeMb) {
+        this(maxDepth, moveTimeMillis, hashSizeMb, 1, 1);
+    }
+
+    public AIPlayer(int maxDepth, long moveTimeMillis, int hashSizeMb, int threads, int maxThreads) {
+        this(maxDepth, moveTimeMillis, hashSizeMb, threads, maxThreads, SearchOptions.ALL);
+    }
+
+    public AIPlayer(int maxDepth, long moveTimeMillis, int hashSizeMb, int threads, int maxThreads, SearchOptions options) {
+        this(maxDepth, moveTimeMillis, hashSizeMb, threads, maxThreads, options, 0);
+    }
+
+    public AIPlayer(int maxDepth, long moveTimeMillis, int hashSizeMb, int threads, int maxThreads, SearchOptions options,
+                    int ponderThreads) {
+        TranspositionTable table = new TranspositionTable(hashSizeMb);
+        this.search = new LazySmpSearch(table, maxThreads, options);
+        this.ponderManager = new PonderManager(table, options, ponderThreads, maxDepth);
+        this.limits = SearchLimits.moveTime(maxDepth, moveTimeMillis);
+        this.threads = threads;
+    }
+
+    /**
+     * Searches the best move for the side to move.
+     *
+     * @param fen The position in FEN.
+     * @return The search result, its best move is {@link PackedMove#NO_MOVE} if the game is over.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public synchronized SearchResult findBestMove(String fen) {
+        return findBestMove(fen, threads);
+    }
+
+    /**
+     * Searches the best move for the side to move with the given number of threads.
+     *
+     * @param fen     The position in FEN.
+     * @param threads The number of search threads, capped by {@code engine.search.threads.max}.
+     * @return The search result, its best move is {@link PackedMove#NO_MOVE} if the game is over.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public synchronized SearchResult findBestMove(String fen, int threads) {
+        return findBestMove(fen, threads, new TimeManager(limits));
+    }
+
+    /**
+     * Searches the best move for the side to move within the limits of a time manager. The time manager's
+     * clock already runs while the request waits for an earlier one to finish.
+     *
+     * @param fen         The position in FEN.
+     * @param threads     The number of search threads, capped by {@code engine.search.threads.max}.
+     * @param timeManager The limits of the search, {@link TimeManager#stop()} cancels it.
+     * @return The search result, its best move is {@link PackedMove#NO_MOVE} if the game is over or the search
+     * was cancelled before completing its first iteration.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public synchronized SearchResult findBestMove(String fen, int threads, TimeManager timeManager) {
+        return findBestMove(null, fen, threads, timeManager);
+    }
+
+    /**
+     * Searches the best move for the side to move in a game, answering from the game's ponder search when it
+     * expected the position.
+     *
+     * @param gameId      The id of the game, or {@code null} for a position outside a game.
+     * @param fen         The position in FEN.
+     * @param threads     The number of search threads, capped by {@code engine.search.threads.max}.
+     * @param timeManager The limits of the search, {@link TimeManager#stop()} cancels it.
+     * @return The search result, its best move is {@link PackedMove#NO_MOVE} if the game is over or the search
+     * was cancelled before completing its first iteration.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public synchronized SearchResult findBestMove(String gameId, String fen, int threads, TimeManager timeManager) {
+        board.readFEN(fen);
+        SearchResult pondered = ponderManager.take(gameId, board, timeManager);
+        if (pondered != null) return pondered;
+        // The ponder searches of other games would take cores from this one, their work stays in the table
+        ponderManager.stopAll();
+        return search.search(board, timeManager, threads);
+    }
+
+    /**
+     * Plays the engine's move in a position.
+     *
+     * @param fen The position in FEN.
+     * @return The FEN of the position after the engine's move, or the given position unchanged if the side to
+     * move is checkmated or stalemated.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public synchronized String play(String fen) {
+        return play(fen, threads);
+    }
+
+    /**
+     * Plays the engine's move in a position, searching with the given number of threads.
+     *
+     * @param fen     The position in FEN.
+     * @param threads The number of search threads, capped by {@code engine.search.threads.max}.
+     * @return The FEN of the position after the engine's move, or the given position unchanged if the side to
+     * move is checkmated or stalemated.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public synchronized String play(String fen, int threads) {
+        return play(fen, threads, new TimeManager(limits));
+    }
+
+    /**
+     * Plays the engine's move in a position, searching within the limits of a time manager.
+     *
+     * @param fen         The position in FEN.
+     * @param threads     The number of search threads, capped by {@code engine.search.threads.max}.
+     * @param timeManager The limits of the search, {@link TimeManager#stop()} cancels it.
+     * @return The FEN of the position after the engine's move, or the given position unchanged if the side to
+     * move is checkmated or stalemated, or the search was cancelled before finding a move.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public synchronized String play(String fen, int threads, TimeManager timeManager) {
+        return play(null, fen, threads, timeManager);
+    }
+
+    /**
+     * Plays the engine's move in a game and starts pondering the expected reply.
+     *
+     * @param gameId      The id of the game, or {@code null} for a position outside a game, which is not
+     *                    pondered.
+     * @param fen         The position in FEN.
+     * @param threads     The number of search threads, capped by {@code engine.search.threads.max}.
+     * @param timeManager The limits of the search, {@link TimeManager#stop()} cancels it.
+     * @return The FEN of the position after the engine's move, or the given position unchanged if the side to
+     * move is checkmated or stalemated, or the search was cancelled before finding a move.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public synchronized String play(String gameId, String fen, int threads, TimeManager timeManager) {
+        SearchResult result = findBestMove(gameId, fen, threads, timeManager);
+        if (result.bestMove() != PackedMove.NO_MOVE) {
+            board.makeMove(result.bestMove());
+            if (!timeManager.isStopRequested()) {
+                ponderManager.start(gameId, board, result.principalVariation());
+            }
+        }
+        return FenCodec.toFEN(board);
+    }
+
+    /**
+     * @return The default limits of a move, from {@code engine.search.depth} and {@code engine.search.movetime}.
+     */
+    public SearchLimits getLimits() {
+        return limits;
+    }
+
+    public PonderManager getPonderManager() {
+        return ponderManager;
+    }
+
+    /**
+     * @return The search of the player, for its statistics such as the transposition table hashfull.
+     */
+    public LazySmpSearch getSearch() {
+        return search;
+    }
 }
@@ -1,4 +1,576 @@
 package chess.ai_player;
 
-public class AlphaBetaMinMax {
+import chess.ai_player.move_generation.MoveGenerator;
+import chess.ai_player.move_ordering.HistoryTables;
+import chess.ai_player.move_ordering.MovePicker;
+import chess.board.Bitboard;
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.PackedMove;
+import chess.board.enums.GamePhase;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import chess.engine.evaluation.Rating;
+import chess.engine.evaluation.StaticExchange;
+import chess.engine.evaluation.pawn_structure.PawnHashTable;
+import chess.utility.MoveHistory;
+
+import java.util.Arrays;
+
+/**
+ * Iterative-deepening negamax search with alpha-beta pruning.
+ * <p>
+ * Every iteration searches one ply deeper than the last and starts with the previous principal variation, so
+ * the cheap shallow iterations order the moves of the expensive deep ones. From the second move on, a node is
+ * first searched with a null window (principal variation search) and only re-searched with the full window
+ * when the move turns out to beat alpha. From {@link #ASPIRATION_MIN_DEPTH} on, the root window is narrowed
+ * around the previous score (aspiration window) and widened again on a fail low or high.
+ * <p>
+ * The principal variation is kept in a triangular array: row {@code ply} holds the best line found from that
+ * ply, and a new best move at a ply copies the line of the ply below behind it. Together with one reusable
+ * {@link MoveList} per ply, a search allocates nothing per node. An instance is not thread safe; it works on
+ * its own copy of the board given to {@link #search}.
+ * <p>
+ * Searched positions are kept in a {@link TranspositionTable}. Its move is tried first, and outside the
+ * principal variation a stored score with enough depth ends the node right away, so each iteration only
+ * searches again what the last one could not settle.
+ * <p>
+ * At the horizon a quiescence search resolves the pending captures before evaluating: the side to move may
+ * stand pat on the static evaluation or try captures and promotions. Captures that cannot raise the score to
+ * alpha even when winning the piece outright (delta pruning) and captures losing material by
+ * {@link StaticExchange} are skipped.
+ * <p>
+ * The tree is searched selectively, each technique switched by {@link SearchOptions}:
+ * <ul>
+ *     <li>null-move pruning: passing the turn and still failing high at reduced depth cuts the node off. In
+ *     the endgame, where zugzwang makes passing wrongly attractive, the cutoff is verified by a reduced search
+ *     of the node itself, and with only pawns left the null move is not tried at all,</li>
+ *     <li>late move reductions: quiet moves late in the order are searched shallower, by
+ *     {@code log(depth) * log(moveNumber)} from a precomputed table, and again at full depth if they beat
+ *     alpha,</li>
+ *     <li>reverse futility and razoring: near the horizon a static evaluation far above beta cuts the node
+ *     off, one far below alpha settles it with a quiescence search,</li>
+ *     <li>futility and late-move pruning: near the horizon quiet moves are skipped when the static evaluation
+ *     is far below alpha, or when many moves were already tried.</li>
+ * </ul>
+ * None of them applies on the principal variation, in check, or to moves giving check or capturing.
+ * <p>
+ * The same class is the worker of {@link LazySmpSearch}: several instances search the same position on their
+ * own boards and share only the table, and {@link #stop()} ends a running search from another thread.
+ */
+public final class AlphaBetaMinMax {
+
+    public static final int MAX_PLY = 64;
+    public static final int INFINITY = 32000;
+    // Mate at the root, a mate found n plies deep scores MATE - n
+    public static final int MATE = 31000;
+
+    static final int ASPIRATION_MIN_DEPTH = 4;
+    static final int ASPIRATION_WINDOW = 50;
+
+    // Margin for the positional gain of a capture in delta pruning
+    static final int DELTA_MARGIN = 200;
+
+    static final int NULL_MOVE_MIN_DEPTH = 3;
+    static final int REVERSE_FUTILITY_MAX_DEPTH = 6;
+    static final int REVERSE_FUTILITY_MARGIN = 90;
+    static final int RAZORING_MAX_DEPTH = 2;
+    static final int RAZORING_MARGIN = 300;
+    static final int FUTILITY_MAX_DEPTH = 3;
+    static final int FUTILITY_MARGIN = 120;
+    static final int LATE_MOVE_PRUNING_MAX_DEPTH = 4;
+    static final int LATE_MOVE_REDUCTION_MIN_DEPTH = 3;
+
+    // Reductions by depth and move number, 0.75 + ln(depth) * ln(moveNumber) / 2.25 plies
+    private static final int[][] LATE_MOVE_REDUCTIONS = new int[MAX_PLY][MoveList.CAPACITY];
+
+    static {
+        for (int depth = 1; depth < MAX_PLY; depth++) {
+            for (int moveNumber = 1; moveNumber < MoveList.CAPACITY; moveNumber++) {
+                LATE_MOVE_REDUCTIONS[depth][moveNumber] = (int) (0.75 + Math.log(depth) * Math.log(moveNumber) / 2.25);
+            }
+        }
+    }
+
+    // The stop flags are polled every 2048 nodes
+    private static final int POLL_MASK = 2047;
+    private static final int DEFAULT_TABLE_SIZE_MB = 16;
+    private static final int PAWN_TABLE_SIZE_KB = 192;
+
+    private final MoveList[] moveLists = new MoveList[MAX_PLY];
+    private final MovePicker[] movePickers = new MovePicker[MAX_PLY];
+    private final HistoryTables historyTables = new HistoryTables(MAX_PLY);
+    // Every search thread has its own pawn hash table, so it is used without locks
+    private final PawnHashTable pawnTable = new PawnHashTable(PAWN_TABLE_SIZE_KB);
+    private final int[][] pvTable = new int[MAX_PLY][MAX_PLY];
+    private final int[] pvLength = new int[MAX_PLY];
+    private final int[] previousPv = new int[MAX_PLY];
+    private int previousPvLength;
+
+    private final TranspositionTable table;
+    private final SearchOptions options;
+    private final NodeCounters nodeCounters;
+    private final int counterSlot;
+
+    private Board board;
+    private long tableProbes;
+    private long tableHits;
+    private TimeManager timeManager;
+    private boolean stopped;
+    private volatile boolean stopRequested;
+    // Plies added to every iteration, helper threads use it to search other depths than the main thread
+    private int depthOffset;
+
+    public AlphaBetaMinMax() {
+        this(new TranspositionTable(DEFAULT_TABLE_SIZE_MB));
+    }
+
+    /**
+     * @param table The transposition table, it may be shared with other searches.
+     */
+    public AlphaBetaMinMax(TranspositionTable table) {
+        this(table, SearchOptions.ALL);
+    }
+
+    /**
+     * @param table   The transposition table, it may be shared with other searches.
+     * @param options The selective search techniques to use.
+     */
+    public AlphaBetaMinMax(TranspositionTable table, SearchOptions options) {
+        this(table, options, new NodeCounters(1), 0);
+    }
+
+    AlphaBetaMinMax(TranspositionTable table, SearchOptions options, NodeCounters nodeCounters, int counterSlot) {
+        this.table = table;
+        this.options = options;
+        this.nodeCounters = nodeCounters;
+        this.counterSlot = counterSlot;
+        for (int ply = 0; ply < MAX_PLY; ply++) {
+            moveLists[ply] = new MoveList();
+            movePickers[ply] = new MovePicker();
+        }
+    }
+
+    /**
+     * Searches a position to the given depth or until the time budget is used up, whichever comes first. When
+     * the budget runs out before the first iteration completes, the best root move searched so far or else the
+     * first legal move is returned, so there is a move even with a budget of zero.
+     *
+     * @param position   The position to search, it is copied and left untouched.
+     * @param maxDepth   The maximum depth in plies (1 to {@link #MAX_PLY} - 1).
+     * @param timeMillis The time budget in milliseconds, or a negative value for no limit.
+     * @return The result of the deepest completed iteration.
+     */
+    public SearchResult search(Board position, int maxDepth, long timeMillis) {
+        return search(position, new TimeManager(SearchLimits.moveTime(maxDepth, timeMillis)));
+    }
+
+    /**
+     * Searches a position within the limits of a time manager. The hard deadline and the node limit are kept
+     * from the first iteration on; when they end it, the best root move searched so far or else the first legal
+     * move is returned, so there is a move even when the time is already up. A search cancelled by
+     * {@link TimeManager#stop()} before completing an iteration returns {@link PackedMove#NO_MOVE}.
+     *
+     * @param position    The position to search, it is copied and left untouched.
+     * @param timeManager The limits and deadlines of the search.
+     * @return The result of the deepest completed iteration.
+     */
+    public SearchResult search(Board position, TimeManager timeManager) {
+        table.newSearch();
+        prepare(0);
+        return iterate(position, timeManager);
+    }
+
+    /**
+     * Readies the worker for the next {@link #iterate}. Done before handing it to its thread, so a
+     * {@link #stop()} arriving before the thread starts is not lost.
+     *
+     * @param depthOffset Plies added to the depth of every iteration.
+     */
+    void prepare(int depthOffset) {
+        this.depthOffset = depthOffset;
+        stopRequested = false;
+    }
+
+    /**
+     * Runs the iterative deepening of {@link #search} without starting a new table generation, which the
+     * caller does once for all threads sharing the table.
+     */
+    SearchResult iterate(Board position, TimeManager timeManager) {
+        timeManager.start();
+        try {
+            return iterate(position, timeManager, timeManager.getLimits().maxDepth());
+        } finally {
+            timeManager.finish();
+        }
+    }
+
+    private SearchResult iterate(Board position, TimeManager timeManager, int maxDepth) {
+        board = new Board(position);
+        nodeCounters.reset(counterSlot);
+        tableProbes = 0;
+        tableHits = 0;
+        historyTables.newSearch();
+        this.timeManager = timeManager;
+        stopped = false;
+        previousPvLength = 0;
+
+        int depthLimit = Math.min(Math.max(maxDepth, 1), MAX_PLY - 1);
+        int bestMove = PackedMove.NO_MOVE;
+        int bestScore = 0;
+        int completedDepth = 0;
+        int[] principalVariation = new int[0];
+
+        for (int iteration = 1; iteration <= depthLimit; iteration++) {
+            int depth = Math.min(iteration + depthOffset, depthLimit);
+            int score = searchRoot(depth, bestScore);
+            if (stopped) break;
+
+            int previousBestMove = bestMove;
+            bestScore = score;
+            previousPvLength = pvLength[0];
+            System.arraycopy(pvTable[0], 0, previousPv, 0, previousPvLength);
+            bestMove = previousPvLength > 0 ? previousPv[0] : PackedMove.NO_MOVE;
+            principalVariation = Arrays.copyOf(previousPv, previousPvLength);
+            timeManager.iterationCompleted(completedDepth > 0 && bestMove != previousBestMove);
+            completedDepth = depth;
+
+            // No need to look deeper at the depth limit, when there is nothing to choose or a mate is already found
+            if (depth == depthLimit || bestMove == PackedMove.NO_MOVE || Math.abs(score) >= MATE - depth) break;
+            if (!timeManager.canStartIteration()) break;
+        }
+        if (completedDepth == 0 && !stopRequested && !timeManager.isStopRequested()) {
+            bestMove = fallbackMove();
+            principalVariation = bestMove == PackedMove.NO_MOVE ? new int[0] : new int[]{bestMove};
+        }
+        return new SearchResult(bestMove, bestScore, completedDepth, getNodes(), principalVariation);
+    }
+
+    /**
+     * The move to play when the time or nodes ran out before the first iteration completed: the best root move
+     * searched so far, or else the first legal move.
+     *
+     * @return The move, or {@link PackedMove#NO_MOVE} if there is no legal move.
+     */
+    private int fallbackMove() {
+        if (pvLength[0] > 0) return pvTable[0][0];
+        MoveList moves = moveLists[0];
+        MoveGenerator.generateLegal(board, moves);
+        return moves.isEmpty() ? PackedMove.NO_MOVE : moves.get(0);
+    }
+
+    private int searchRoot(int depth, int previousScore) {
+        if (depth < ASPIRATION_MIN_DEPTH) {
+            return negamax(depth, -INFINITY, INFINITY, 0, false);
+        }
+        int window = ASPIRATION_WINDOW;
+        int alpha = Math.max(previousScore - window, -INFINITY);
+        int beta = Math.min(previousScore + window, INFINITY);
+        while (true) {
+            int score = negamax(depth, alpha, beta, 0, false);
+            if (stopped) return score;
+            if (score <= alpha) {
+                alpha = Math.max(score - window, -INFINITY);
+            } else if (score >= beta) {
+                beta = Math.min(score + window, INFINITY);
+            } else {
+                return score;
+            }
+            window *= 2;
+        }
+    }
+
+    /**
+     * @param nullMoveAllowed Whether the node may try a null move, false right after one and at the root.
+     */
+    private int negamax(int depth, int alpha, int beta, int ply, boolean nullMoveAllowed) {
+        pvLength[ply] = ply;
+        if (countNode()) return 0;
+        if (ply > 0 && isDraw()) return 0;
+
+        PieceColor us = board.getCurrentPlayer();
+        boolean inCheck = isInCheck(us);
+        // Look one ply further when in check, so the horizon does not fall in the middle of a forced sequence
+        if (inCheck) depth++;
+        if (ply >= MAX_PLY - 1) return Rating.evaluate(board, pawnTable);
+        if (depth <= 0) return quiescenceMoves(alpha, beta, ply, false);
+
+        long key = board.getZobristKey();
+        long entry = table.probe(key);
+        tableProbes++;
+        int hashMove = PackedMove.NO_MOVE;
+        boolean pvNode = beta - alpha > 1;
+        if (entry != TranspositionTable.MISS) {
+            tableHits++;
+            hashMove = TranspositionTable.move(entry);
+            // The principal variation is always searched, so it stays complete
+            if (!pvNode && ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                int score = TranspositionTable.score(entry, ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER && score >= beta)
+                        || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        boolean selective = !pvNode && !inCheck;
+        int staticEval = selective ? Rating.evaluate(board, pawnTable) : -INFINITY;
+        if (selective) {
+            boolean mateBounds = Math.abs(beta) >= MATE - MAX_PLY;
+            if (options.reverseFutility() && depth <= REVERSE_FUTILITY_MAX_DEPTH && !mateBounds
+                    && staticEval - REVERSE_FUTILITY_MARGIN * depth >= beta) {
+                return staticEval - REVERSE_FUTILITY_MARGIN * depth;
+            }
+            if (options.razoring() && depth <= RAZORING_MAX_DEPTH && !mateBounds
+                    && staticEval + RAZORING_MARGIN * depth <= alpha) {
+                int score = quiescenceMoves(alpha, beta, ply, false);
+                if (score <= alpha) return score;
+            }
+            if (options.nullMovePruning() && nullMoveAllowed && depth >= NULL_MOVE_MIN_DEPTH && staticEval >= beta
+                    && hasPieces(us)) {
+                int score = nullMoveSearch(depth, beta, ply);
+                if (stopped) return 0;
+                if (score >= beta) return score;
+            }
+        }
+
+        MoveList moves = moveLists[ply];
+        MoveGenerator.generateLegal(board, moves);
+        if (moves.isEmpty()) return inCheck ? -MATE + ply : 0;
+        if (hashMove == PackedMove.NO_MOVE && ply < previousPvLength) {
+            hashMove = previousPv[ply];
+        }
+        MoveHistory history = board.getHistory();
+        int previousMove = history.size() > 0 ? history.move(history.size() - 1) : PackedMove.NO_MOVE;
+        MovePicker picker = movePickers[ply];
+        picker.init(board, moves, hashMove, historyTables, us, ply, previousMove);
+
+        boolean futile = selective && options.futilityPruning() && depth <= FUTILITY_MAX_DEPTH
+                && staticEval + FUTILITY_MARGIN * depth <= alpha;
+        int lateMoveLimit = selective && options.lateMovePruning() && depth <= LATE_MOVE_PRUNING_MAX_DEPTH
+                ? 3 + depth * depth : MoveList.CAPACITY;
+
+        int originalAlpha = alpha;
+        int bestMove = PackedMove.NO_MOVE;
+        int bestScore = -INFINITY;
+        for (int move = picker.next(); move != PackedMove.NO_MOVE; move = picker.next()) {
+            int moveNumber = picker.picked();
+            boolean quiet = HistoryTables.isQuiet(move);
+            board.makeMove(move);
+            boolean givesCheck = isInCheck(us.opposite());
+            // Only prune once a move holds off a mate, so a node is never left without a score
+            if (quiet && !givesCheck && moveNumber > 1 && bestScore > -MATE + MAX_PLY
+                    && (futile || moveNumber > lateMoveLimit)) {
+                board.unmakeMove();
+                continue;
+            }
+
+            int score;
+            if (moveNumber == 1) {
+                score = -negamax(depth - 1, -beta, -alpha, ply + 1, true);
+            } else {
+                int reduction = 0;
+                if (options.lateMoveReductions() && quiet && !inCheck && !givesCheck
+                        && depth >= LATE_MOVE_REDUCTION_MIN_DEPTH) {
+                    reduction = LATE_MOVE_REDUCTIONS[depth][moveNumber] - (pvNode ? 1 : 0);
+                    reduction = Math.max(0, Math.min(reduction, depth - 2));
+                }
+                score = -negamax(depth - 1 - reduction, -alpha - 1, -alpha, ply + 1, true);
+                if (score > alpha && reduction > 0) {
+                    score = -negamax(depth - 1, -alpha - 1, -alpha, ply + 1, true);
+                }
+                if (score > alpha && score < beta) {
+                    score = -negamax(depth - 1, -beta, -alpha, ply + 1, true);
+                }
+            }
+            board.unmakeMove();
+            if (stopped) return 0;
+
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    bestMove = move;
+                    updatePv(ply, move);
+                    if (alpha >= beta) {
+                        if (HistoryTables.isQuiet(move)) {
+                            historyTables.updateQuiet(us, ply, move, depth, previousMove, moves, picker.picked() - 1);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = bestScore >= beta ? TranspositionTable.LOWER
+                : bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        table.store(key, bestMove, bestScore, depth, bound, ply);
+        return bestScore;
+    }
+
+    /**
+     * Passes the turn and searches the opponent's reply at reduced depth with a null window around beta. In the
+     * endgame a fail high is only trusted when a reduced search of the node itself, without null move, fails
+     * high as well.
+     *
+     * @return A score of at least beta when the node can be cut off, else a score below beta.
+     */
+    private int nullMoveSearch(int depth, int beta, int ply) {
+        int reducedDepth = depth - 1 - (3 + depth / 6);
+        board.makeNullMove();
+        int score = -negamax(reducedDepth, -beta, -beta + 1, ply + 1, false);
+        board.unmakeNullMove();
+        if (stopped || score < beta) return score;
+
+        // A mate found after passing is not proven
+        if (score >= MATE - MAX_PLY) score = beta;
+        if (board.getGamePhase() == GamePhase.END_GAME) {
+            int verified = negamax(reducedDepth, beta - 1, beta, ply, false);
+            if (verified < beta) return verified;
+        }
+        return score;
+    }
+
+    /**
+     * @return true if the side has a piece other than pawns and the king, without one zugzwang is too likely
+     * for a null move.
+     */
+    private boolean hasPieces(PieceColor color) {
+        Bitboard bitboard = board.getBitboard();
+        long pawnsAndKing = bitboard.getBitboardForPieceTypeAndColor(PieceType.PAWN, color)
+                | bitboard.getBitboardForPieceTypeAndColor(PieceType.KING, color);
+        return (bitboard.getOccupancies(color) & ~pawnsAndKing) != 0;
+    }
+
+    private int quiescence(int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+        if (countNode()) return 0;
+        if (ply >= MAX_PLY - 1) return Rating.evaluate(board, pawnTable);
+        return quiescenceMoves(alpha, beta, ply, isInCheck(board.getCurrentPlayer()));
+    }
+
+    /**
+     * The quiescence search of a node already counted. In check every evasion is searched and standing pat is
+     * not allowed, as the check has to be answered.
+     */
+    private int quiescenceMoves(int alpha, int beta, int ply, boolean inCheck) {
+        MoveList moves = moveLists[ply];
+        int standPat = -INFINITY;
+        if (inCheck) {
+            MoveGenerator.generateLegal(board, moves);
+            if (moves.isEmpty()) return -MATE + ply;
+        } else {
+            standPat = Rating.evaluate(board, pawnTable);
+            if (standPat >= beta) return standPat;
+            if (standPat > alpha) alpha = standPat;
+            MoveGenerator.generateLegalNoisy(board, moves);
+        }
+        MovePicker picker = movePickers[ply];
+        picker.init(board, moves, PackedMove.NO_MOVE, historyTables, board.getCurrentPlayer(), ply, PackedMove.NO_MOVE);
+
+        int bestScore = standPat;
+        for (int move = picker.next(); move != PackedMove.NO_MOVE; move = picker.next()) {
+            if (!inCheck) {
+                PieceType captured = PackedMove.capturedType(move);
+                int gain = captured == null ? 0 : captured.getMidGameValue();
+                if (!PackedMove.isPromotion(move) && standPat + gain + DELTA_MARGIN <= alpha) continue;
+                if (StaticExchange.see(board, move) < 0) continue;
+            }
+            board.makeMove(move);
+            int score = -quiescence(-beta, -alpha, ply + 1);
+            board.unmakeMove();
+            if (stopped) return 0;
+
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePv(ply, move);
+                    if (alpha >= beta) break;
+                }
+            }
+        }
+        return bestScore;
+    }
+
+    /**
+     * Counts a node and polls the stop flags every {@link #POLL_MASK} + 1 nodes. The deadline is a flag
+     * raised by the {@link TimeManager}, so the clock is never read here.
+     *
+     * @return true if the search has to stop.
+     */
+    private boolean countNode() {
+        if ((nodeCounters.increment(counterSlot) & POLL_MASK) == 0
+                && (stopRequested || timeManager.isStopRequested()
+                || timeManager.isOutOfBudget(nodeCounters.total()))) {
+            stopped = true;
+        }
+        return stopped;
+    }
+
+    private boolean isInCheck(PieceColor color) {
+        int king = board.getKingPosition(color);
+        return king >= 0 && board.getAttackMap().isAttacked(king, color.opposite());
+    }
+
+    private void updatePv(int ply, int move) {
+        int[] line = pvTable[ply];
+        line[ply] = move;
+        int childLength = pvLength[ply + 1];
+        System.arraycopy(pvTable[ply + 1], ply + 1, line, ply + 1, childLength - ply - 1);
+        pvLength[ply] = Math.max(childLength, ply + 1);
+    }
+
+    /**
+     * A position is drawn by the fifty move rule or when it already occurred since the last capture or pawn
+     * move. Only positions reached since the start of the search are known.
+     */
+    private boolean isDraw() {
+        int halfmoveClock = board.getHalfmoveClock();
+        if (halfmoveClock >= 100) return true;
+
+        MoveHistory history = board.getHistory();
+        long key = board.getZobristKey();
+        int oldest = Math.max(history.size() - halfmoveClock, 0);
+        for (int index = history.size() - 2; index >= oldest; index -= 2) {
+            if (history.zobristKey(index) == key) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of nodes searched by the last search.
+     */
+    public long getNodes() {
+        return nodeCounters.get(counterSlot);
+    }
+
+    /**
+     * @return The share of transposition table probes of the last search that found the position (0 to 1).
+     */
+    public double getTableHitRate() {
+        return tableProbes == 0 ? 0.0 : (double) tableHits / tableProbes;
+    }
+
+    /**
+     * Asks a running search to stop. It finishes within a few thousand nodes, returning the result of its
+     * deepest completed iteration; the first iteration is abandoned as well.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public HistoryTables getHistoryTables() {
+        return historyTables;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    public PawnHashTable getPawnTable() {
+        return pawnTable;
+    }
 }
@@ -0,0 +1,139 @@
+package chess.ai_player;
+
+import chess.board.Board;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Multi-core search by Lazy SMP: the calling thread runs the normal iterative deepening while helper threads
+ * search the same position on their own board copies, sharing nothing but the {@link TranspositionTable}.
+ * The helpers never report moves. What they find reaches the main thread through the table, as cutoffs and
+ * move ordering for the positions it has not searched yet. Odd helpers search one ply deeper than the main
+ * thread, so the threads do not all work on the same nodes.
+ * <p>
+ * The main thread owns the result: when it finishes, the helpers are stopped and waited for. The number of
+ * threads is chosen per search and capped by {@code maxThreads}, which also sizes the helper pool. Searches on
+ * one instance must not run concurrently.
+ */
+public final class LazySmpSearch {
+
+    private final TranspositionTable table;
+    private final AlphaBetaMinMax[] workers;
+    private final NodeCounters nodeCounters;
+    private final ExecutorService helperPool;
+
+    /**
+     * @param table      The transposition table shared by all threads.
+     * @param maxThreads The maximum number of threads of a search, including the calling thread.
+     */
+    public LazySmpSearch(TranspositionTable table, int maxThreads) {
+        this(table, maxThreads, SearchOptions.ALL);
+    }
+
+    /**
+     * @param table      The transposition table shared by all threads.
+     * @param maxThreads The maximum number of threads of a search, including the calling thread.
+     * @param options    The selective search techniques of all threads.
+     */
+    public LazySmpSearch(TranspositionTable table, int maxThreads, SearchOptions options) {
+        this.table = table;
+        int threads = Math.max(1, maxThreads);
+        this.nodeCounters = new NodeCounters(threads);
+        this.workers = new AlphaBetaMinMax[threads];
+        for (int id = 0; id < threads; id++) {
+            workers[id] = new AlphaBetaMinMax(table, options, nodeCounters, id);
+        }
+        this.helperPool = threads > 1 ? Executors.newFixedThreadPool(threads - 1, runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Searches a position with the given number of threads, capped by the maximum of this search.
+     *
+     * @param position   The position to search, it is copied and left untouched.
+     * @param maxDepth   The maximum depth in plies.
+     * @param timeMillis The time budget in milliseconds, or a negative value for no limit.
+     * @param threads    The number of threads to use, including the calling thread.
+     * @return The result of the main thread, with the nodes of all threads.
+     */
+    public SearchResult search(Board position, int maxDepth, long timeMillis, int threads) {
+        return search(position, new TimeManager(SearchLimits.moveTime(maxDepth, timeMillis)), threads);
+    }
+
+    /**
+     * Searches a position with the given number of threads within the limits of a time manager. Only the main
+     * thread follows the time manager, the helpers run until it is done.
+     *
+     * @param position    The position to search, it is copied and left untouched.
+     * @param timeManager The limits and deadlines of the search, {@link TimeManager#stop()} cancels it.
+     * @param threads     The number of threads to use, including the calling thread.
+     * @return The result of the main thread, with the nodes of all threads.
+     */
+    public SearchResult search(Board position, TimeManager timeManager, int threads) {
+        int maxDepth = timeManager.getLimits().maxDepth();
+        int helpers = Math.min(Math.max(threads, 1), workers.length) - 1;
+        table.newSearch();
+
+        Future<?>[] running = new Future<?>[helpers];
+        for (int id = 1; id <= helpers; id++) {
+            AlphaBetaMinMax helper = workers[id];
+            helper.prepare(id & 1);
+            running[id - 1] = helperPool.submit(() -> helper.iterate(position, new TimeManager(SearchLimits.depth(maxDepth))));
+        }
+
+        AlphaBetaMinMax main = workers[0];
+        main.prepare(0);
+        SearchResult result;
+        try {
+            result = main.iterate(position, timeManager);
+        } finally {
+            for (int id = 1; id <= helpers; id++) {
+                workers[id].stop();
+            }
+            awaitHelpers(running);
+        }
+
+        long nodes = 0;
+        for (int id = 0; id <= helpers; id++) {
+            nodes += nodeCounters.get(id);
+        }
+        return new SearchResult(result.bestMove(), result.score(), result.depth(), nodes, result.principalVariation());
+    }
+
+    private static void awaitHelpers(Future<?>[] running) {
+        for (Future<?> helper : running) {
+            try {
+                helper.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Search helper failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * @return The maximum number of threads of a search.
+     */
+    public int getMaxThreads() {
+        return workers.length;
+    }
+
+    /**
+     * @return The search of the calling thread, for its statistics.
+     */
+    public AlphaBetaMinMax getMainSearch() {
+        return workers[0];
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+}
@@ -0,0 +1,42 @@
+package chess.ai_player;
+
+/**
+ * Node counters of the search threads, one per slot. Every thread increments its counter on every node, so
+ * counters of different threads must not share a cache line: a write would then invalidate the line in the
+ * caches of all other threads (false sharing). The slots are spread 128 bytes apart, which also keeps them
+ * out of the adjacent line some CPUs prefetch together with each line.
+ * <p>
+ * A counter is only written by its own thread. Reads from other threads, as in {@link #total()}, may be
+ * slightly behind.
+ */
+final class NodeCounters {
+
+    private static final int STRIDE = 128 / Long.BYTES;
+
+    private final long[] counts;
+
+    NodeCounters(int slots) {
+        // One stride of padding before the first slot, the array header shares its line with other objects
+        counts = new long[(slots + 1) * STRIDE];
+    }
+
+    long increment(int slot) {
+        return ++counts[(slot + 1) * STRIDE];
+    }
+
+    long get(int slot) {
+        return counts[(slot + 1) * STRIDE];
+    }
+
+    void reset(int slot) {
+        counts[(slot + 1) * STRIDE] = 0;
+    }
+
+    long total() {
+        long total = 0;
+        for (int index = STRIDE; index < counts.length; index += STRIDE) {
+            total += counts[index];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,179 @@
+package chess.ai_player;
+
+import chess.board.Board;
+import chess.board.PackedMove;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Searches on the opponent's time. After the engine has moved in a game, the position after the reply it
+ * expects (the second move of its principal variation) is searched in the background until the game's next
+ * request arrives:
+ * <ul>
+ *     <li>when the opponent played the expected move (a ponder hit), the ponder search is stopped and, if it
+ *     already ran at least as long as the new move may think, its result is the answer. Otherwise the search
+ *     of the move starts over, finding the positions of the ponder search in the shared
+ *     {@link TranspositionTable},</li>
+ *     <li>when the opponent played another move (a miss), the ponder search is stopped and its work is
+ *     dropped.</li>
+ * </ul>
+ * Sessions are keyed by game id. At most {@code maxThreads} ponder searches run at the same time; a new session
+ * beyond the cap ends the oldest one. Their threads have minimum priority, which most platforms (Linux among
+ * them) ignore, so the searches answering requests call {@link #stopAll()} first: pondering only uses the time
+ * between requests and never competes with them for the cores. A ponder search stops on its own after
+ * {@link #MAX_PONDER_MILLIS}.
+ */
+public final class PonderManager {
+
+    static final long MAX_PONDER_MILLIS = 60_000;
+
+    private final TranspositionTable table;
+    private final SearchOptions options;
+    private final int maxThreads;
+    private final int maxDepth;
+    private final ExecutorService ponderPool;
+    // Oldest session first
+    private final Map<String, Session> sessions = new LinkedHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param table      The transposition table of the engine, shared with the ponder searches.
+     * @param options    The selective search techniques of the ponder searches.
+     * @param maxThreads The maximum number of ponder searches running at the same time, 0 disables pondering.
+     * @param maxDepth   The maximum depth of a ponder search in plies.
+     */
+    public PonderManager(TranspositionTable table, SearchOptions options, int maxThreads, int maxDepth) {
+        this.table = table;
+        this.options = options;
+        this.maxThreads = Math.max(maxThreads, 0);
+        this.maxDepth = maxDepth;
+        this.ponderPool = this.maxThreads > 0 ? Executors.newFixedThreadPool(this.maxThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ponder");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Starts pondering a game after the engine's move, replacing the game's previous session.
+     *
+     * @param gameId             The id of the game.
+     * @param position           The position after the engine's move, it is copied.
+     * @param principalVariation The principal variation of the engine's move, its second move is the expected
+     *                           reply. Without one nothing is pondered.
+     */
+    public synchronized void start(String gameId, Board position, int[] principalVariation) {
+        if (ponderPool == null || gameId == null) return;
+        Session previous = sessions.remove(gameId);
+        if (previous != null) previous.cancel();
+        if (principalVariation.length < 2) return;
+
+        Board expected = new Board(position);
+        expected.makeMove(principalVariation[1]);
+        while (sessions.size() >= maxThreads) {
+            Iterator<Session> oldest = sessions.values().iterator();
+            oldest.next().cancel();
+            oldest.remove();
+        }
+        Session session = new Session(expected.getZobristKey(),
+                new TimeManager(SearchLimits.moveTime(maxDepth, MAX_PONDER_MILLIS)),
+                new AlphaBetaMinMax(table, options));
+        // Only the searches answering requests start a new table generation, pondering shares the current one
+        session.search.prepare(0);
+        session.result = ponderPool.submit(() -> session.search.iterate(expected, session.timeManager));
+        sessions.put(gameId, session);
+    }
+
+    /**
+     * Ends the game's session for its next request.
+     *
+     * @param gameId      The id of the game.
+     * @param position    The position of the request.
+     * @param timeManager The time manager of the request.
+     * @return The result of the ponder search when it searched the position of the request for at least the
+     * soft time of the request, else {@code null} and the request has to be searched.
+     */
+    public SearchResult take(String gameId, Board position, TimeManager timeManager) {
+        Session session;
+        synchronized (this) {
+            session = gameId == null ? null : sessions.remove(gameId);
+        }
+        if (session == null) return null;
+        if (session.expectedKey != position.getZobristKey()) {
+            session.cancel();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        long pondered = session.timeManager.elapsedMillis();
+        SearchResult result = session.finish();
+        boolean enough = pondered >= timeManager.getSoftMillis() || result.depth() >= timeManager.getLimits().maxDepth();
+        return result.bestMove() != PackedMove.NO_MOVE && enough ? result : null;
+    }
+
+    /**
+     * Stops all ponder searches.
+     */
+    public synchronized void stopAll() {
+        sessions.values().forEach(Session::cancel);
+        sessions.clear();
+    }
+
+    public synchronized int getActiveSessions() {
+        return sessions.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    private static final class Session {
+
+        private final long expectedKey;
+        private final TimeManager timeManager;
+        private final AlphaBetaMinMax search;
+        private Future<SearchResult> result;
+
+        private Session(long expectedKey, TimeManager timeManager, AlphaBetaMinMax search) {
+            this.expectedKey = expectedKey;
+            this.timeManager = timeManager;
+            this.search = search;
+        }
+
+        void cancel() {
+            timeManager.stop();
+        }
+
+        /**
+         * Stops the search and waits for it, it ends within a few thousand nodes.
+         */
+        SearchResult finish() {
+            timeManager.stop();
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new SearchResult(PackedMove.NO_MOVE, 0, 0, 0, new int[0]);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Ponder search failed", e.getCause());
+            }
+        }
+    }
+}
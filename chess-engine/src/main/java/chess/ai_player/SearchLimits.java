@@ -0,0 +1,50 @@
+package chess.ai_player;
+
+/**
+ * What a search may spend on a move. A negative time or node limit means no limit of that kind. The time comes
+ * either as a fixed time per move or as the clock of the side to move, from which the {@link TimeManager}
+ * allocates the time of this move.
+ *
+ * @param maxDepth        The maximum depth in plies.
+ * @param moveTimeMillis  The fixed time for this move in milliseconds.
+ * @param remainingMillis The time left on the clock of the side to move in milliseconds, used when there is no
+ *                        fixed time per move.
+ * @param incrementMillis The time added to the clock after each move in milliseconds.
+ * @param maxNodes        The maximum number of nodes, of all search threads together.
+ */
+public record SearchLimits(int maxDepth, long moveTimeMillis, long remainingMillis, long incrementMillis, long maxNodes) {
+
+    public static final long NO_LIMIT = -1;
+
+    public static SearchLimits depth(int maxDepth) {
+        return new SearchLimits(maxDepth, NO_LIMIT, NO_LIMIT, 0, NO_LIMIT);
+    }
+
+    public static SearchLimits moveTime(int maxDepth, long moveTimeMillis) {
+        return new SearchLimits(maxDepth, moveTimeMillis, NO_LIMIT, 0, NO_LIMIT);
+    }
+
+    public static SearchLimits clock(int maxDepth, long remainingMillis, long incrementMillis) {
+        return new SearchLimits(maxDepth, NO_LIMIT, remainingMillis, incrementMillis, NO_LIMIT);
+    }
+
+    public SearchLimits withMaxDepth(int maxDepth) {
+        return new SearchLimits(maxDepth, moveTimeMillis, remainingMillis, incrementMillis, maxNodes);
+    }
+
+    public SearchLimits withMoveTime(long moveTimeMillis) {
+        return new SearchLimits(maxDepth, moveTimeMillis, remainingMillis, incrementMillis, maxNodes);
+    }
+
+    public SearchLimits withClock(long remainingMillis, long incrementMillis) {
+        return new SearchLimits(maxDepth, NO_LIMIT, remainingMillis, incrementMillis, maxNodes);
+    }
+
+    public SearchLimits withMaxNodes(long maxNodes) {
+        return new SearchLimits(maxDepth, moveTimeMillis, remainingMillis, incrementMillis, maxNodes);
+    }
+
+    public boolean hasNodeLimit() {
+        return maxNodes >= 0;
+    }
+}
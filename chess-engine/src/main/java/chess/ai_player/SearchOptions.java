@@ -0,0 +1,30 @@
+package chess.ai_player;
+
+import config.ConfigLoader;
+
+/**
+ * Switches for the selective search of {@link AlphaBetaMinMax}, so each technique can be turned off to measure
+ * what it is worth. Disabling all of them leaves a plain alpha-beta search with quiescence.
+ *
+ * @param nullMovePruning     Let the opponent move twice, a position still failing high is cut off.
+ * @param lateMoveReductions  Search late quiet moves shallower, and again at full depth if they beat alpha.
+ * @param futilityPruning     Skip quiet moves near the horizon when the static evaluation is far below alpha.
+ * @param reverseFutility     Cut off near the horizon when the static evaluation is far above beta.
+ * @param razoring            Drop into the quiescence search near the horizon when far below alpha.
+ * @param lateMovePruning     Skip the late quiet moves of shallow nodes.
+ */
+public record SearchOptions(boolean nullMovePruning, boolean lateMoveReductions, boolean futilityPruning,
+                            boolean reverseFutility, boolean razoring, boolean lateMovePruning) {
+
+    public static final SearchOptions ALL = new SearchOptions(true, true, true, true, true, true);
+    public static final SearchOptions NONE = new SearchOptions(false, false, false, false, false, false);
+
+    /**
+     * Reads the switches from the {@code engine.search.*} properties, every technique is on unless disabled.
+     */
+    public static SearchOptions fromConfig(ConfigLoader config) {
+        return new SearchOptions(config.isSearchFeatureEnabled("nullmove"), config.isSearchFeatureEnabled("lmr"),
+                config.isSearchFeatureEnabled("futility"), config.isSearchFeatureEnabled("reversefutility"),
+                config.isSearchFeatureEnabled("razoring"), config.isSearchFeatureEnabled("lmp"));
+    }
+}
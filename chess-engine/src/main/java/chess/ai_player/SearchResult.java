@@ -0,0 +1,32 @@
+package chess.ai_player;
+
+import chess.board.PackedMove;
+
+/**
+ * Outcome of a search: the best move found, its score and the principal variation of the deepest completed
+ * iteration.
+ *
+ * @param bestMove           The best move as a {@link PackedMove}, or {@link PackedMove#NO_MOVE} when the side to
+ *                           move has no legal move.
+ * @param score              The score in centipawns from the side to move's point of view. Mate scores are
+ *                           within {@link AlphaBetaMinMax#MAX_PLY} of {@code ±AlphaBetaMinMax.MATE}.
+ * @param depth              The depth of the deepest completed iteration.
+ * @param nodes              The number of nodes searched over all iterations.
+ * @param principalVariation The expected line of play, starting with the best move.
+ */
+public record SearchResult(int bestMove, int score, int depth, long nodes, int[] principalVariation) {
+
+    /**
+     * @return true if the score is a forced mate for either side.
+     */
+    public boolean isMate() {
+        return Math.abs(score) >= AlphaBetaMinMax.MATE - AlphaBetaMinMax.MAX_PLY;
+    }
+
+    /**
+     * @return The best move in UCI notation, or "0000" when there is none.
+     */
+    public String bestMoveUci() {
+        return bestMove == PackedMove.NO_MOVE ? "0000" : PackedMove.toUci(bestMove);
+    }
+}
@@ -0,0 +1,146 @@
+package chess.ai_player;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns the {@link SearchLimits} of one search into deadlines, counted from the creation of the manager, and
+ * carries the request to stop it.
+ * <ul>
+ *     <li>The soft deadline is checked between iterations: no new iteration is started past it. Each time the
+ *     best move changes from one iteration to the next, the soft deadline is pushed back, up to three times
+ *     the planned time, since an unstable choice is worth more time.</li>
+ *     <li>The hard deadline ends the search in the middle of an iteration. It is not read from the clock by
+ *     the search: a shared timer thread raises a volatile flag, which the search polls every few thousand
+ *     nodes together with the stop request of {@link #stop()}.</li>
+ * </ul>
+ * With a fixed time per move both deadlines are that time. With a clock, a move plans for
+ * {@value #MOVES_TO_GO} more moves plus most of the increment, and may run to a few times that when
+ * unstable, never more than a third of the clock. A search without time limits has no deadlines.
+ * <p>
+ * The manager is created when the request arrives, so the time spent waiting for the engine counts against
+ * the budget of the move.
+ */
+public final class TimeManager {
+
+    static final int MOVES_TO_GO = 30;
+    // Kept off the clock for sending the move back
+    static final long OVERHEAD_MILLIS = 30;
+    static final int HARD_LIMIT_FACTOR = 4;
+    static final int MAX_INSTABILITY = 2;
+
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private final SearchLimits limits;
+    private final long startNanos;
+    private final long softMillis;
+    private final long hardMillis;
+    private double instability;
+
+    private volatile boolean deadlineReached;
+    private volatile boolean stopRequested;
+    private ScheduledFuture<?> deadlineTimer;
+
+    public TimeManager(SearchLimits limits) {
+        this.limits = limits;
+        this.startNanos = System.nanoTime();
+        if (limits.moveTimeMillis() >= 0) {
+            softMillis = limits.moveTimeMillis();
+            hardMillis = limits.moveTimeMillis();
+        } else if (limits.remainingMillis() >= 0) {
+            long available = Math.max(limits.remainingMillis() - OVERHEAD_MILLIS, 0);
+            softMillis = Math.min(available / MOVES_TO_GO + limits.incrementMillis() * 3 / 4, available / 4);
+            hardMillis = Math.max(softMillis, Math.min(softMillis * HARD_LIMIT_FACTOR, available / 3));
+        } else {
+            softMillis = Long.MAX_VALUE;
+            hardMillis = Long.MAX_VALUE;
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("search-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Searches ending before their deadline cancel the timer, which should not linger in the queue
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Arms the hard deadline, called when the search starts.
+     */
+    synchronized void start() {
+        if (hardMillis == Long.MAX_VALUE || deadlineTimer != null) return;
+        long delayNanos = hardMillis * 1_000_000L - (System.nanoTime() - startNanos);
+        deadlineTimer = TIMER.schedule(() -> deadlineReached = true, Math.max(delayNanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Disarms the hard deadline, called when the search ends.
+     */
+    synchronized void finish() {
+        if (deadlineTimer != null) {
+            deadlineTimer.cancel(false);
+            deadlineTimer = null;
+        }
+    }
+
+    /**
+     * Records a completed iteration.
+     *
+     * @param bestMoveChanged Whether the iteration chose another best move than the one before.
+     */
+    void iterationCompleted(boolean bestMoveChanged) {
+        instability = Math.min(instability / 2 + (bestMoveChanged ? 1 : 0), MAX_INSTABILITY);
+    }
+
+    /**
+     * @return true if there is time left for another iteration.
+     */
+    boolean canStartIteration() {
+        if (softMillis == Long.MAX_VALUE) return !stopRequested;
+        long softLimit = Math.min(hardMillis, (long) (softMillis * (1 + instability)));
+        return !stopRequested && !deadlineReached && elapsedMillis() < softLimit;
+    }
+
+    /**
+     * @param nodes The nodes searched so far by all threads.
+     * @return true if the search has used up its time or nodes, read by the search every few thousand nodes.
+     */
+    boolean isOutOfBudget(long nodes) {
+        return deadlineReached || limits.hasNodeLimit() && nodes >= limits.maxNodes();
+    }
+
+    /**
+     * Asks the search to stop as soon as possible, also before its first iteration is complete. Safe to call
+     * from any thread, before or during the search.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested;
+    }
+
+    public long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    public long getSoftMillis() {
+        return softMillis;
+    }
+
+    public long getHardMillis() {
+        return hardMillis;
+    }
+
+    public SearchLimits getLimits() {
+        return limits;
+    }
+}
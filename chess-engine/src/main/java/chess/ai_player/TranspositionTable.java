@@ -0,0 +1,197 @@
+package chess.ai_player;
+
+import chess.board.PackedMove;
+
+import java.util.Arrays;
+
+/**
+ * Transposition table of the search, shared by all search threads without locks.
+ * <p>
+ * The table is one flat {@code long[]} split into buckets of 64 bytes: four entries of two longs, the data and
+ * the Zobrist key XOR-ed with the data. A probe only accepts an entry whose two halves XOR back to the probed
+ * key, so an entry torn by two threads writing it at the same time reads as a miss instead of a wrong score.
+ * The data of an entry is packed as:
+ * <pre>
+ *  bits  0-31  best move ({@link PackedMove}, NO_MOVE when unknown)
+ *  bits 32-47  score (signed, mate scores relative to the stored position)
+ *  bits 48-55  depth
+ *  bits 56-57  bound (UPPER, LOWER or EXACT, never 0 so a stored entry is never 0)
+ *  bits 58-63  age (search generation)
+ * </pre>
+ * Within a bucket a new position replaces the entry with the lowest depth, where every search generation an
+ * entry is old costs it {@link #AGE_WEIGHT} plies, so entries of earlier searches make room for the current
+ * one.
+ */
+public final class TranspositionTable {
+
+    public static final int UPPER = 1;
+    public static final int LOWER = 2;
+    public static final int EXACT = 3;
+
+    // Value of probe() when the position is not in the table
+    public static final long MISS = 0L;
+
+    private static final int BUCKET_BYTES = 64;
+    private static final int LONGS_PER_BUCKET = BUCKET_BYTES / Long.BYTES;
+    private static final int MAX_BUCKETS = 1 << 27;
+
+    private static final int SCORE_SHIFT = 32;
+    private static final int DEPTH_SHIFT = 48;
+    private static final int BOUND_SHIFT = 56;
+    private static final int AGE_SHIFT = 58;
+    private static final int AGE_MASK = 0x3F;
+    private static final int AGE_WEIGHT = 8;
+
+    // Mate scores are stored relative to the entry's position instead of the root
+    private static final int MATE_BOUND = AlphaBetaMinMax.MATE - AlphaBetaMinMax.MAX_PLY;
+
+    private final long[] table;
+    private final int bucketMask;
+    private int age;
+
+    /**
+     * Creates a table using at most the given number of megabytes, rounded down to a power of two buckets.
+     *
+     * @param sizeMb The size of the table in megabytes.
+     */
+    public TranspositionTable(int sizeMb) {
+        long buckets = Long.highestOneBit(Math.max(1L, (long) sizeMb * 1024 * 1024 / BUCKET_BYTES));
+        int bucketCount = (int) Math.min(buckets, MAX_BUCKETS);
+        table = new long[bucketCount * LONGS_PER_BUCKET];
+        bucketMask = bucketCount - 1;
+    }
+
+    /**
+     * Starts a new search generation. Entries of earlier searches stay usable but are replaced first.
+     */
+    public void newSearch() {
+        age = (age + 1) & AGE_MASK;
+    }
+
+    /**
+     * @return The current search generation.
+     */
+    int getAge() {
+        return age;
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key The Zobrist key of the position.
+     * @return The packed data of the entry, read with the static accessors, or {@link #MISS}.
+     */
+    public long probe(long key) {
+        int base = ((int) key & bucketMask) * LONGS_PER_BUCKET;
+        for (int index = base; index < base + LONGS_PER_BUCKET; index += 2) {
+            long data = table[index + 1];
+            if ((table[index] ^ data) == key && data != MISS) {
+                return data;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores the result of searching a position. An entry of the same position is kept instead when it was
+     * searched clearly deeper in the current search, and its move is kept when the new result has none.
+     *
+     * @param key   The Zobrist key of the position.
+     * @param move  The best move, or {@link PackedMove#NO_MOVE}.
+     * @param score The score relative to the root, mate scores are converted with the ply.
+     * @param depth The depth the position was searched to (0-255).
+     * @param bound UPPER, LOWER or EXACT.
+     * @param ply   The distance of the position from the root.
+     */
+    public void store(long key, int move, int score, int depth, int bound, int ply) {
+        int base = ((int) key & bucketMask) * LONGS_PER_BUCKET;
+        int replace = base;
+        int lowest = Integer.MAX_VALUE;
+        for (int index = base; index < base + LONGS_PER_BUCKET; index += 2) {
+            long data = table[index + 1];
+            if (data == MISS) {
+                replace = index;
+                break;
+            }
+            if ((table[index] ^ data) == key) {
+                if (bound != EXACT && age(data) == age && depth < depth(data) - 2) return;
+                if (move == PackedMove.NO_MOVE) move = move(data);
+                replace = index;
+                break;
+            }
+            int value = depth(data) - AGE_WEIGHT * ((age - age(data)) & AGE_MASK);
+            if (value < lowest) {
+                lowest = value;
+                replace = index;
+            }
+        }
+        long data = (move & 0xFFFFFFFFL)
+                | ((long) (scoreToTable(score, ply) & 0xFFFF) << SCORE_SHIFT)
+                | ((long) depth << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) age << AGE_SHIFT);
+        table[replace + 1] = data;
+        table[replace] = key ^ data;
+    }
+
+    public static int move(long data) {
+        return (int) data;
+    }
+
+    /**
+     * @param data The packed data of an entry.
+     * @param ply  The distance of the probing position from the root.
+     * @return The score relative to the root.
+     */
+    public static int score(long data, int ply) {
+        int score = (short) (data >>> SCORE_SHIFT);
+        if (score >= MATE_BOUND) return score - ply;
+        if (score <= -MATE_BOUND) return score + ply;
+        return score;
+    }
+
+    public static int depth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int bound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    private static int age(long data) {
+        return (int) (data >>> AGE_SHIFT) & AGE_MASK;
+    }
+
+    private static int scoreToTable(int score, int ply) {
+        if (score >= MATE_BOUND) return score + ply;
+        if (score <= -MATE_BOUND) return score - ply;
+        return score;
+    }
+
+    /**
+     * Estimates how full the table is with entries of the current search, in permille, from the first
+     * thousand entries (the UCI "hashfull").
+     *
+     * @return The number of used entries per thousand.
+     */
+    public int hashfull() {
+        int sampled = Math.min(1000, table.length / 2);
+        int used = 0;
+        for (int entry = 0; entry < sampled; entry++) {
+            long data = table[entry * 2 + 1];
+            if (data != MISS && age(data) == age) used++;
+        }
+        return used * 1000 / sampled;
+    }
+
+    /**
+     * @return The number of entries the table holds.
+     */
+    public int capacity() {
+        return table.length / 2;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+    }
+}
@@ -33,21 +33,10 @@ public class KingMoveGenerator {
         long possibleMoves = PreComputationHandler.KING_ATTACKS[square];
         long occupancies = board.getBitboard().getOccupancies(color);
 
-        System.out.println("King Attacks Bitboard for " + square + ": " + Long.toBinaryString(possibleMoves));
-        System.out.println("Occupancies for " + color + ": " + Long.toBinaryString(occupancies));
-
-        for (int toSquare = 0; toSquare < 64; toSquare++) {
-            // Check if the move is within the precomputed moves
-            if ((possibleMoves & (1L << toSquare)) != 0) {
-                // Ensure the target square is not occupied by the same color piece
-                if ((occupancies & (1L << toSquare)) == 0) {
-                    moves.add(toSquare);
-                }
-            }
+        // Only squares within the precomputed moves that are not occupied by the same color
+        for (long targets = possibleMoves & ~occupancies; targets != 0; targets &= targets - 1) {
+            moves.add(Long.numberOfTrailingZeros(targets));
         }
-
-        // A printout of all the available moves
-        System.out.println("Generated moves: " + moves);
         return moves;
     }
 
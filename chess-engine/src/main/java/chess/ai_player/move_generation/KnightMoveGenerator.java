@@ -28,12 +28,9 @@ public class KnightMoveGenerator {
      */
     public List<Integer> generateMovesForKnight(int square, PieceColor color) {
         List<Integer> moves = new ArrayList<>();
-        long possibleMoves = PreComputationHandler.KNIGHT_ATTACKS[square];
-        long ownPieces = board.getBitboard().getOccupancies(color);
-        for (int i = 0; i < 64; i++) {
-            if ((possibleMoves & (1L << i)) != 0 && (ownPieces & (1L << i)) == 0) {
-                moves.add(i);
-            }
+        long possibleMoves = PreComputationHandler.KNIGHT_ATTACKS[square] & ~board.getBitboard().getOccupancies(color);
+        for (; possibleMoves != 0; possibleMoves &= possibleMoves - 1) {
+            moves.add(Long.numberOfTrailingZeros(possibleMoves));
         }
         return moves;
     }
@@ -0,0 +1,359 @@
+package chess.ai_player.move_generation;
+
+import chess.board.AttackMap;
+import chess.board.Bitboard;
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.PackedMove;
+import chess.board.Piece;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+
+import static chess.engine.pre_computations.PreComputationHandler.*;
+
+/**
+ * Set-wise pseudo-legal move generation for the whole side to move. Pawn pushes and captures are produced for
+ * all pawns at once by shifting the pawn bitboard, and the targets of knights, bishops, rooks, queens and the
+ * king are looked up as attack bitboards and iterated by bit scanning. Moves are written as packed ints into a
+ * caller-owned {@link MoveList}, so generation allocates nothing and never scans all 64 squares.
+ * <p>
+ * {@link #generateAll} is pseudo-legal: the moves follow the piece movement rules but may leave the own king in
+ * check. {@link #generateLegal} additionally restricts the targets with the check and pin masks so that every
+ * generated move is legal. Castling is only generated when the king does not start on, pass through or land on
+ * an attacked square. {@link #generateLegalNoisy} is the same restricted to captures and promotions, for the
+ * quiescence search.
+ */
+public final class MoveGenerator {
+
+    private static final int[] PROMOTION_ORDER = {
+            PieceType.QUEEN.ordinal(), PieceType.ROOK.ordinal(), PieceType.BISHOP.ordinal(), PieceType.KNIGHT.ordinal()
+    };
+
+    private static final PieceType[] PIECE_TYPES = {PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN};
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Generates all pseudo-legal moves of the side to move.
+     *
+     * @param board The board to generate moves for.
+     * @param moves The list receiving the moves; it is cleared first.
+     */
+    public static void generateAll(Board board, MoveList moves) {
+        moves.clear();
+        Bitboard bitboard = board.getBitboard();
+        PieceColor us = board.getCurrentPlayer();
+        PieceColor them = us.opposite();
+        long own = bitboard.getOccupancies(us);
+        long enemy = bitboard.getOccupancies(them);
+        long all = bitboard.getAllOccupancies();
+
+        long pawns = bitboard.getBitboardForPieceTypeAndColor(PieceType.PAWN, us);
+        generatePawnMoves(board, moves, us, pawns, enemy, all, ~0L);
+        for (long attackers = enPassantAttackers(board, us, pawns); attackers != 0; attackers &= attackers - 1) {
+            addEnPassant(board, moves, us, Long.numberOfTrailingZeros(attackers));
+        }
+        for (PieceType pieceType : PIECE_TYPES) {
+            generatePieceMoves(board, moves, pieceType, us, bitboard.getBitboardForPieceTypeAndColor(pieceType, us), ~own, all);
+        }
+        generatePieceMoves(board, moves, PieceType.KING, us, bitboard.getBitboardForPieceTypeAndColor(PieceType.KING, us), ~own, all);
+        generateCastlingMoves(board, moves, us, all);
+    }
+
+    /**
+     * Generates only the legal moves of the side to move. The checkers and the pinned pieces are computed once
+     * for the position: a pinned piece may only move along the line through its king, when in single check
+     * every non-king move must capture the checker or land between it and the king, and in double check only
+     * the king moves. King moves are masked with the enemy attacks of the board's {@link AttackMap}, which look
+     * through the king, so the king cannot step back along the line of a slider. No move needs to be made and
+     * tested afterwards.
+     * <p>
+     * A side without a king (as in some test setups) has no check or pin constraints, its pseudo-legal moves
+     * are returned.
+     *
+     * @param board The board to generate moves for.
+     * @param moves The list receiving the moves; it is cleared first.
+     */
+    public static void generateLegal(Board board, MoveList moves) {
+        generateLegal(board, moves, false);
+    }
+
+    /**
+     * Generates the legal captures (en passant included) and promotions of the side to move, the moves the
+     * quiescence search looks at. Castling is never generated.
+     *
+     * @param board The board to generate moves for.
+     * @param moves The list receiving the moves; it is cleared first.
+     */
+    public static void generateLegalNoisy(Board board, MoveList moves) {
+        generateLegal(board, moves, true);
+    }
+
+    private static void generateLegal(Board board, MoveList moves, boolean noisyOnly) {
+        Bitboard bitboard = board.getBitboard();
+        PieceColor us = board.getCurrentPlayer();
+        long kings = bitboard.getBitboardForPieceTypeAndColor(PieceType.KING, us);
+        if (kings == 0) {
+            generateAll(board, moves);
+            if (noisyOnly) removeQuietMoves(moves);
+            return;
+        }
+        moves.clear();
+
+        PieceColor them = us.opposite();
+        int kingSquare = Long.numberOfTrailingZeros(kings);
+        long own = bitboard.getOccupancies(us);
+        long enemy = bitboard.getOccupancies(them);
+        long all = bitboard.getAllOccupancies();
+        AttackMap attackMap = board.getAttackMap();
+        long checkers = attackMap.attackersTo(board, kingSquare, them);
+        // Captures land on enemy pieces, promotions (pawns only) on the last rank
+        long pieceTargets = noisyOnly ? enemy : ~0L;
+        long pawnTargets = noisyOnly ? enemy | (us == PieceColor.WHITE ? RANK_8 : RANK_1) : ~0L;
+
+        // The enemy attacks look through our king, so the king cannot retreat along a checking line
+        int king = Piece.code(PieceType.KING, us);
+        for (long targets = KING_ATTACKS[kingSquare] & ~own & ~attackMap.attacks(them) & pieceTargets; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+            moves.add(PackedMove.encode(kingSquare, to, king, board.pieceAt(to), 0, PackedMove.NORMAL));
+        }
+        if (Long.bitCount(checkers) > 1) return;
+
+        // Squares a non-king move has to land on: anywhere, or on the checker and the squares in between
+        long checkMask = checkers == 0 ? ~0L : checkers | BETWEEN[kingSquare][Long.numberOfTrailingZeros(checkers)];
+        long pinned = pinnedPieces(board, kingSquare, us, all);
+
+        long pawns = bitboard.getBitboardForPieceTypeAndColor(PieceType.PAWN, us);
+        generatePawnMoves(board, moves, us, pawns & ~pinned, enemy, all, checkMask & pawnTargets);
+        for (long pinnedPawns = pawns & pinned; pinnedPawns != 0; pinnedPawns &= pinnedPawns - 1) {
+            int from = Long.numberOfTrailingZeros(pinnedPawns);
+            generatePawnMoves(board, moves, us, 1L << from, enemy, all, checkMask & pawnTargets & LINE[kingSquare][from]);
+        }
+        for (long attackers = enPassantAttackers(board, us, pawns); attackers != 0; attackers &= attackers - 1) {
+            int from = Long.numberOfTrailingZeros(attackers);
+            if (isLegalEnPassant(board, us, from, kingSquare, checkMask, all)) {
+                addEnPassant(board, moves, us, from);
+            }
+        }
+
+        for (PieceType pieceType : PIECE_TYPES) {
+            long pieces = bitboard.getBitboardForPieceTypeAndColor(pieceType, us);
+            generatePieceMoves(board, moves, pieceType, us, pieces & ~pinned, ~own & checkMask & pieceTargets, all);
+            // A pinned knight can never stay on its pin line
+            if (pieceType == PieceType.KNIGHT) continue;
+            for (long pinnedPieces = pieces & pinned; pinnedPieces != 0; pinnedPieces &= pinnedPieces - 1) {
+                int from = Long.numberOfTrailingZeros(pinnedPieces);
+                generatePieceMoves(board, moves, pieceType, us, 1L << from, ~own & checkMask & pieceTargets & LINE[kingSquare][from], all);
+            }
+        }
+        if (checkers == 0 && !noisyOnly) {
+            generateCastlingMoves(board, moves, us, all);
+        }
+    }
+
+    private static void removeQuietMoves(MoveList moves) {
+        int kept = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (PackedMove.isCapture(move) || PackedMove.isPromotion(move)) {
+                moves.set(kept++, move);
+            }
+        }
+        moves.truncate(kept);
+    }
+
+    /**
+     * Generates the pawn pushes, double pushes, captures and promotions of a set of pawns of one side at once.
+     * Only moves landing on the target mask are generated; en passant is handled separately.
+     */
+    static void generatePawnMoves(Board board, MoveList moves, PieceColor us, long pawns, long enemy, long all, long targetMask) {
+        int pawn = Piece.code(PieceType.PAWN, us);
+        long empty = ~all;
+        long singlePushes, doublePushes, leftCaptures, rightCaptures, promotionRank;
+        int up, left, right;
+
+        if (us == PieceColor.WHITE) {
+            singlePushes = (pawns << 8) & empty;
+            doublePushes = ((singlePushes & RANK_3) << 8) & empty;
+            leftCaptures = ((pawns & ~FILE_A) << 7) & enemy;
+            rightCaptures = ((pawns & ~FILE_H) << 9) & enemy;
+            promotionRank = RANK_8;
+            up = 8;
+            left = 7;
+            right = 9;
+        } else {
+            singlePushes = (pawns >>> 8) & empty;
+            doublePushes = ((singlePushes & RANK_6) >>> 8) & empty;
+            leftCaptures = ((pawns & ~FILE_A) >>> 9) & enemy;
+            rightCaptures = ((pawns & ~FILE_H) >>> 7) & enemy;
+            promotionRank = RANK_1;
+            up = -8;
+            left = -9;
+            right = -7;
+        }
+
+        addPawnMoves(board, moves, singlePushes & targetMask, up, pawn, promotionRank);
+        for (long targets = doublePushes & targetMask; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+            moves.add(PackedMove.encode(to - 2 * up, to, pawn, Piece.EMPTY, 0, PackedMove.DOUBLE_PAWN_PUSH));
+        }
+        addPawnMoves(board, moves, leftCaptures & targetMask, left, pawn, promotionRank);
+        addPawnMoves(board, moves, rightCaptures & targetMask, right, pawn, promotionRank);
+    }
+
+    /**
+     * Returns the pawns of one side that can capture en passant in the current position.
+     */
+    private static long enPassantAttackers(Board board, PieceColor us, long pawns) {
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare < 0) return 0L;
+        // Our pawns attacking the en passant square stand where an enemy pawn on it would attack
+        return pawns & (us == PieceColor.WHITE ? BLACK_PAWN_ATTACKS : WHITE_PAWN_ATTACKS)[enPassantSquare];
+    }
+
+    private static void addEnPassant(Board board, MoveList moves, PieceColor us, int from) {
+        moves.add(PackedMove.encode(from, board.getEnPassantSquare(), Piece.code(PieceType.PAWN, us),
+                Piece.code(PieceType.PAWN, us.opposite()), 0, PackedMove.EN_PASSANT));
+    }
+
+    /**
+     * En passant removes two pawns from the same rank, which can uncover a slider on the king that no pin mask
+     * catches. The capture is legal when it resolves any check and no enemy slider sees the king once both
+     * pawns are gone and the capturing pawn stands on the en passant square.
+     */
+    private static boolean isLegalEnPassant(Board board, PieceColor us, int from, int kingSquare, long checkMask, long all) {
+        int to = board.getEnPassantSquare();
+        int capturedSquare = us == PieceColor.WHITE ? to - 8 : to + 8;
+        if ((checkMask & ((1L << to) | (1L << capturedSquare))) == 0) return false;
+
+        Bitboard bitboard = board.getBitboard();
+        PieceColor them = us.opposite();
+        long occupancy = (all ^ (1L << from) ^ (1L << capturedSquare)) | (1L << to);
+        long queens = bitboard.getBitboardForPieceTypeAndColor(PieceType.QUEEN, them);
+        long diagonal = bitboard.getBitboardForPieceTypeAndColor(PieceType.BISHOP, them) | queens;
+        long straight = bitboard.getBitboardForPieceTypeAndColor(PieceType.ROOK, them) | queens;
+        return (bishopAttacks(kingSquare, occupancy) & diagonal) == 0 && (rookAttacks(kingSquare, occupancy) & straight) == 0;
+    }
+
+    private static void addPawnMoves(Board board, MoveList moves, long targets, int offset, int pawn, long promotionRank) {
+        for (; targets != 0; targets &= targets - 1) {
+            int to = Long.numberOfTrailingZeros(targets);
+            int from = to - offset;
+            int captured = board.pieceAt(to);
+            if (((1L << to) & promotionRank) != 0) {
+                for (int promotion : PROMOTION_ORDER) {
+                    moves.add(PackedMove.encode(from, to, pawn, captured, promotion, PackedMove.NORMAL));
+                }
+            } else {
+                moves.add(PackedMove.encode(from, to, pawn, captured, 0, PackedMove.NORMAL));
+            }
+        }
+    }
+
+    /**
+     * Generates the moves of a set of knights, bishops, rooks, queens or kings of one side onto the target squares.
+     */
+    static void generatePieceMoves(Board board, MoveList moves, PieceType pieceType, PieceColor us, long pieces, long targetMask, long all) {
+        int piece = Piece.code(pieceType, us);
+        for (; pieces != 0; pieces &= pieces - 1) {
+            int from = Long.numberOfTrailingZeros(pieces);
+            long targets = attacks(pieceType, from, all) & targetMask;
+            for (; targets != 0; targets &= targets - 1) {
+                int to = Long.numberOfTrailingZeros(targets);
+                moves.add(PackedMove.encode(from, to, piece, board.pieceAt(to), 0, PackedMove.NORMAL));
+            }
+        }
+    }
+
+    /**
+     * Generates castling moves for the side to move when the rights are held, the squares between king and
+     * rook are empty and the king does not cross an attacked square.
+     */
+    static void generateCastlingMoves(Board board, MoveList moves, PieceColor us, long all) {
+        int rights = board.getCastlingRights();
+        int kingSideRight = us == PieceColor.WHITE ? Board.CASTLE_WHITE_KING_SIDE : Board.CASTLE_BLACK_KING_SIDE;
+        int queenSideRight = us == PieceColor.WHITE ? Board.CASTLE_WHITE_QUEEN_SIDE : Board.CASTLE_BLACK_QUEEN_SIDE;
+        if ((rights & (kingSideRight | queenSideRight)) == 0) return;
+
+        int kingSquare = us == PieceColor.WHITE ? 4 : 60;
+        long rooks = board.getBitboard().getBitboardForPieceTypeAndColor(PieceType.ROOK, us);
+        if (board.pieceAt(kingSquare) != Piece.code(PieceType.KING, us)) return;
+
+        PieceColor them = us.opposite();
+        if (isSquareAttacked(board, kingSquare, them)) return;
+        int king = Piece.code(PieceType.KING, us);
+
+        if ((rights & kingSideRight) != 0 && (rooks & (1L << (kingSquare + 3))) != 0
+                && (all & (3L << (kingSquare + 1))) == 0
+                && !isSquareAttacked(board, kingSquare + 1, them) && !isSquareAttacked(board, kingSquare + 2, them)) {
+            moves.add(PackedMove.encode(kingSquare, kingSquare + 2, king, Piece.EMPTY, 0, PackedMove.CASTLING));
+        }
+        if ((rights & queenSideRight) != 0 && (rooks & (1L << (kingSquare - 4))) != 0
+                && (all & (7L << (kingSquare - 3))) == 0
+                && !isSquareAttacked(board, kingSquare - 1, them) && !isSquareAttacked(board, kingSquare - 2, them)) {
+            moves.add(PackedMove.encode(kingSquare, kingSquare - 2, king, Piece.EMPTY, 0, PackedMove.CASTLING));
+        }
+    }
+
+    /**
+     * Returns the attack set of a non-pawn piece on a square for the given occupancy.
+     *
+     * @param pieceType The type of the piece (not PAWN).
+     * @param square    The square of the piece (0-63).
+     * @param occupancy The bitboard of all pieces on the board.
+     * @return The attack bitboard.
+     */
+    public static long attacks(PieceType pieceType, int square, long occupancy) {
+        return switch (pieceType) {
+            case KNIGHT -> KNIGHT_ATTACKS[square];
+            case BISHOP -> bishopAttacks(square, occupancy);
+            case ROOK -> rookAttacks(square, occupancy);
+            case QUEEN -> queenAttacks(square, occupancy);
+            case KING -> KING_ATTACKS[square];
+            default -> throw new IllegalArgumentException("Pawn attacks depend on the color: " + pieceType);
+        };
+    }
+
+    /**
+     * Checks whether a square is attacked by any piece of the given color, using the board's cached
+     * {@link AttackMap}.
+     *
+     * @param board         The board to check.
+     * @param square        The square to check (0-63).
+     * @param attackerColor The color of the attacking side.
+     * @return true if at least one piece of the attacking side attacks the square.
+     */
+    public static boolean isSquareAttacked(Board board, int square, PieceColor attackerColor) {
+        return board.getAttackMap().isAttacked(square, attackerColor);
+    }
+
+    /**
+     * Returns the pieces of the given color that are pinned to their king: own pieces that are the only piece
+     * between the king and an enemy bishop, rook or queen on a matching line.
+     *
+     * @param board      The board to check.
+     * @param kingSquare The square of the king of the given color.
+     * @param us         The color of the king and the pinned pieces.
+     * @param all        The occupancy of both sides.
+     * @return The bitboard of the pinned pieces.
+     */
+    public static long pinnedPieces(Board board, int kingSquare, PieceColor us, long all) {
+        Bitboard bitboard = board.getBitboard();
+        PieceColor them = us.opposite();
+        long enemy = bitboard.getOccupancies(them);
+        long queens = bitboard.getBitboardForPieceTypeAndColor(PieceType.QUEEN, them);
+        // Enemy sliders that would attack the king if none of our pieces stood in the way
+        long snipers = (rookAttacks(kingSquare, enemy) & (bitboard.getBitboardForPieceTypeAndColor(PieceType.ROOK, them) | queens))
+                | (bishopAttacks(kingSquare, enemy) & (bitboard.getBitboardForPieceTypeAndColor(PieceType.BISHOP, them) | queens));
+        long own = all & ~enemy;
+        long pinned = 0L;
+        for (; snipers != 0; snipers &= snipers - 1) {
+            long blockers = BETWEEN[kingSquare][Long.numberOfTrailingZeros(snipers)] & all;
+            if (Long.bitCount(blockers) == 1) {
+                pinned |= blockers & own;
+            }
+        }
+        return pinned;
+    }
+}
@@ -3,6 +3,7 @@ package chess.ai_player.move_generation;
 import chess.board.Board;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
+import chess.engine.pre_computations.PreComputationHandler;
 import chess.exception.IllegalMoveException;
 
 import java.util.ArrayList;
@@ -29,17 +30,15 @@ public class PawnMoveGenerator {
      */
     public List<Integer> generateMovesForPawn(int square, PieceColor color) {
         List<Integer> moves = new ArrayList<>();
-        long allOccupancies = board.getBitboard().getOccupancies(PieceColor.WHITE) | board.getBitboard().getOccupancies(PieceColor.BLACK);
-        long enemyOccupancies = board.getBitboard().getOccupancies(color == PieceColor.WHITE ? PieceColor.BLACK : PieceColor.WHITE);
+        long allOccupancies = board.getBitboard().getAllOccupancies();
+        long enemyOccupancies = board.getBitboard().getOccupancies(color.opposite());
 
         int direction = color == PieceColor.WHITE ? 1 : -1;
         int oneStepForward = square + 8 * direction;
         int twoStepsForward = square + 16 * direction;
-        int leftCapture = square + 7 * direction;
-        int rightCapture = square + 9 * direction;
 
         // Single step forward move
-        if (board.isSquareEmpty(oneStepForward, allOccupancies)) {
+        if (board.isWithinBoardBounds(oneStepForward) && board.isSquareEmpty(oneStepForward, allOccupancies)) {
             moves.add(oneStepForward);
 
             // Initial double step forward move
@@ -50,12 +49,12 @@ public class PawnMoveGenerator {
             }
         }
 
-        // Capture moves to the left and right
-        if (board.isWithinBoardBounds(leftCapture) && board.isSquareOccupiedByEnemy(leftCapture, enemyOccupancies)) {
-            moves.add(leftCapture);
-        }
-        if (board.isWithinBoardBounds(rightCapture) && board.isSquareOccupiedByEnemy(rightCapture, enemyOccupancies)) {
-            moves.add(rightCapture);
+        // Capture moves to the left and right, the precomputed attacks never wrap around the board edge
+        long captures = (color == PieceColor.WHITE
+                ? PreComputationHandler.WHITE_PAWN_ATTACKS[square]
+                : PreComputationHandler.BLACK_PAWN_ATTACKS[square]) & enemyOccupancies;
+        for (; captures != 0; captures &= captures - 1) {
+            moves.add(Long.numberOfTrailingZeros(captures));
         }
 
         return moves;
@@ -4,9 +4,7 @@ import chess.board.Board;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
 import chess.exception.IllegalMoveException;
-import chess.engine.move_validation.piece_validators.BishopValidator;
-import chess.engine.move_validation.piece_validators.QueenValidator;
-import chess.engine.move_validation.piece_validators.RookValidator;
+import chess.engine.pre_computations.PreComputationHandler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +19,8 @@ public class SlidingPieceMoveGenerator {
 
     /**
      * Generates all valid moves for a sliding piece (rook, bishop, queen) from a specified square.
+     * The attack set is looked up in the occupancy-aware tables of {@link PreComputationHandler},
+     * so the rays are never walked square by square.
      *
      * @param square the starting square index of the piece, ranging from 0 (a1) to 63 (h8).
      * @param color the color of the piece (PieceColor.WHITE or PieceColor.BLACK).
@@ -29,42 +29,23 @@ public class SlidingPieceMoveGenerator {
      */
     public List<Integer> generateMovesForSlidingPiece(int square, PieceColor color, PieceType pieceType) {
         List<Integer> moves = new ArrayList<>();
-        long allOccupancies = board.getBitboard().getOccupancies(PieceColor.WHITE) | board.getBitboard().getOccupancies(PieceColor.BLACK);
-        int[] directionOffsets = getDirectionOffsets(pieceType);
+        long allOccupancies = board.getBitboard().getAllOccupancies();
 
-        for (int offset : directionOffsets) {
-            int toSquare = square + offset;
-            while (board.isWithinBoardBounds(toSquare)) {
-                int currentRow = toSquare / 8;
-                int currentCol = toSquare % 8;
-
-                // Prevent wrap-around movement
-                if (Math.abs(offset) == 1 && currentRow != square / 8) break; // Horizontal moves
-                if (Math.abs(offset) == 8 && currentCol != square % 8) break; // Vertical moves
-                if ((Math.abs(offset) == 7 || Math.abs(offset) == 9) && Math.abs(currentRow - square / 8) != Math.abs(currentCol - square % 8)) break; // Diagonal moves
+        long attacks = switch (pieceType) {
+            case ROOK -> PreComputationHandler.rookAttacks(square, allOccupancies);
+            case BISHOP -> PreComputationHandler.bishopAttacks(square, allOccupancies);
+            case QUEEN -> PreComputationHandler.queenAttacks(square, allOccupancies);
+            default -> throw new IllegalArgumentException("Unsupported piece type for sliding movement");
+        };
+        attacks &= ~board.getBitboard().getOccupancies(color); // Own pieces block, enemy pieces can be captured
 
-                if ((allOccupancies & (1L << toSquare)) != 0) {
-                    if ((board.getBitboard().getOccupancies(color.opposite()) & (1L << toSquare)) != 0) {
-                        moves.add(toSquare); // Capture possible
-                    }
-                    break; // Blocked by any piece
-                }
-                moves.add(toSquare); // Add as valid move
-                toSquare += offset; // Move to the next square in the direction
-            }
+        while (attacks != 0) {
+            moves.add(Long.numberOfTrailingZeros(attacks));
+            attacks &= attacks - 1; // Clear the lowest set bit
         }
         return moves;
     }
 
-    private int[] getDirectionOffsets(PieceType pieceType) {
-        return switch (pieceType) {
-            case ROOK -> RookValidator.ROOK_OFFSETS; // Horizontal and vertical
-            case BISHOP -> BishopValidator.BISHOP_OFFSETS; // Diagonal
-            case QUEEN -> QueenValidator.QUEEN_OFFSET; // Horizontal, vertical, and diagonal
-            default -> throw new IllegalArgumentException("Unsupported piece type for sliding movement");
-        };
-    }
-
     /**
      * Moves the sliding piece from one square to another if the move is valid.
      *
@@ -0,0 +1,126 @@
+package chess.ai_player.move_ordering;
+
+import chess.board.PackedMove;
+import chess.board.MoveList;
+import chess.board.enums.PieceColor;
+
+import java.util.Arrays;
+
+/**
+ * What the search learned about quiet moves, for ordering them in later nodes:
+ * <ul>
+ *     <li>killers: the last two quiet moves per ply that caused a beta cutoff,</li>
+ *     <li>history: per side, from and to square, a score raised for quiet moves that caused a cutoff and
+ *     lowered for the quiet moves searched before them in vain,</li>
+ *     <li>countermoves: per piece and destination of the opponent's last move, the quiet reply that refuted
+ *     it.</li>
+ * </ul>
+ * All tables are flat primitive arrays, one set per search thread. Between searches the killers are cleared
+ * and the history halved, so knowledge of the previous position still helps but fades out.
+ */
+public final class HistoryTables {
+
+    // History scores stay within ±MAX_HISTORY, see update()
+    public static final int MAX_HISTORY = 16384;
+
+    private final int maxPly;
+    private final int[] killers;
+    private final int[] history = new int[2 * 64 * 64];
+    private final int[] countermoves = new int[12 * 64];
+
+    /**
+     * @param maxPly The maximum distance from the root the search reaches.
+     */
+    public HistoryTables(int maxPly) {
+        this.maxPly = maxPly;
+        this.killers = new int[maxPly * 2];
+    }
+
+    /**
+     * Prepares the tables for a new search: clears the killers and halves the history.
+     */
+    public void newSearch() {
+        Arrays.fill(killers, PackedMove.NO_MOVE);
+        for (int i = 0; i < history.length; i++) {
+            history[i] /= 2;
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(killers, PackedMove.NO_MOVE);
+        Arrays.fill(history, 0);
+        Arrays.fill(countermoves, PackedMove.NO_MOVE);
+    }
+
+    /**
+     * Records a quiet move that caused a beta cutoff: it becomes the first killer of its ply and the
+     * countermove of the previous move, and gains history while the quiet moves searched before it lose some.
+     *
+     * @param color        The side that played the move.
+     * @param ply          The distance from the root.
+     * @param move         The quiet move that caused the cutoff.
+     * @param depth        The remaining depth of the node, deeper cutoffs count more.
+     * @param previousMove The opponent's move leading to the node, or {@link PackedMove#NO_MOVE}.
+     * @param moves        The moves of the node.
+     * @param searched     The number of moves at the front of the list searched before the cutoff move.
+     */
+    public void updateQuiet(PieceColor color, int ply, int move, int depth, int previousMove, MoveList moves, int searched) {
+        int slot = ply * 2;
+        if (!PackedMove.sameMove(killers[slot], move)) {
+            killers[slot + 1] = killers[slot];
+            killers[slot] = move;
+        }
+
+        int previousPiece = PackedMove.piece(previousMove);
+        if (previousMove != PackedMove.NO_MOVE && previousPiece >= 0) {
+            countermoves[previousPiece * 64 + PackedMove.to(previousMove)] = move;
+        }
+
+        int bonus = Math.min(depth * depth, MAX_HISTORY / 4);
+        update(color, move, bonus);
+        for (int i = 0; i < searched; i++) {
+            int tried = moves.get(i);
+            if (isQuiet(tried) && !PackedMove.sameMove(tried, move)) {
+                update(color, tried, -bonus);
+            }
+        }
+    }
+
+    /**
+     * Moves the score towards ±MAX_HISTORY by the bonus, by less the closer it already is, so scores stay
+     * bounded and recent results outweigh old ones.
+     */
+    private void update(PieceColor color, int move, int bonus) {
+        int index = historyIndex(color, move);
+        history[index] += bonus - history[index] * Math.abs(bonus) / MAX_HISTORY;
+    }
+
+    public int killer(int ply, int slot) {
+        return ply < maxPly ? killers[ply * 2 + slot] : PackedMove.NO_MOVE;
+    }
+
+    public int history(PieceColor color, int move) {
+        return history[historyIndex(color, move)];
+    }
+
+    /**
+     * @param previousMove The opponent's last move.
+     * @return The quiet move that last refuted it, or {@link PackedMove#NO_MOVE}.
+     */
+    public int countermove(int previousMove) {
+        int previousPiece = PackedMove.piece(previousMove);
+        if (previousMove == PackedMove.NO_MOVE || previousPiece < 0) return PackedMove.NO_MOVE;
+        return countermoves[previousPiece * 64 + PackedMove.to(previousMove)];
+    }
+
+    private static int historyIndex(PieceColor color, int move) {
+        return (color.ordinal() << 12) | (PackedMove.from(move) << 6) | PackedMove.to(move);
+    }
+
+    /**
+     * @return true if the move neither captures nor promotes.
+     */
+    public static boolean isQuiet(int move) {
+        return !PackedMove.isCapture(move) && !PackedMove.isPromotion(move);
+    }
+}
@@ -0,0 +1,133 @@
+package chess.ai_player.move_ordering;
+
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.PackedMove;
+import chess.board.Piece;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import chess.engine.evaluation.StaticExchange;
+
+/**
+ * Hands out the moves of a node best first, in stages:
+ * <ol>
+ *     <li>the hash move (from the transposition table or the previous principal variation),</li>
+ *     <li>captures and promotions, most valuable victim first and among those least valuable attacker
+ *     first (MVV-LVA),</li>
+ *     <li>the two killer moves of the ply,</li>
+ *     <li>the countermove of the opponent's last move,</li>
+ *     <li>the remaining quiet moves by their history score,</li>
+ *     <li>captures losing material by {@link StaticExchange}, in MVV-LVA order.</li>
+ * </ol>
+ * The stages are score bands over one legal move list. Instead of sorting the list, {@link #next()} selects
+ * the best remaining move each time, so a node that cuts off after the first few moves never pays for
+ * ordering the rest. One picker is kept per ply and reused; it allocates nothing.
+ */
+public final class MovePicker {
+
+    private static final int HASH_MOVE_SCORE = Integer.MAX_VALUE;
+    private static final int CAPTURE_SCORE = 1 << 24;
+    private static final int FIRST_KILLER_SCORE = 1 << 22;
+    private static final int SECOND_KILLER_SCORE = FIRST_KILLER_SCORE - 1;
+    private static final int COUNTERMOVE_SCORE = FIRST_KILLER_SCORE - 2;
+    // Below any history score
+    private static final int LOSING_CAPTURE_SCORE = -(1 << 24);
+
+    private final int[] scores = new int[MoveList.CAPACITY];
+    private MoveList moves;
+    private int index;
+
+    /**
+     * Scores the moves of a node and starts handing them out.
+     *
+     * @param board        The position of the node.
+     * @param moves        The legal moves of the node, reordered in place while picking.
+     * @param hashMove     The move to try first, or {@link PackedMove#NO_MOVE}.
+     * @param tables       The killer, history and countermove tables of the search thread.
+     * @param color        The side to move.
+     * @param ply          The distance from the root.
+     * @param previousMove The opponent's move leading to the node, or {@link PackedMove#NO_MOVE}.
+     */
+    public void init(Board board, MoveList moves, int hashMove, HistoryTables tables, PieceColor color, int ply, int previousMove) {
+        this.moves = moves;
+        this.index = 0;
+        int firstKiller = tables.killer(ply, 0);
+        int secondKiller = tables.killer(ply, 1);
+        int countermove = tables.countermove(previousMove);
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            int score;
+            if (move == hashMove) {
+                score = HASH_MOVE_SCORE;
+            } else if (!HistoryTables.isQuiet(move)) {
+                score = (isLosingCapture(board, move) ? LOSING_CAPTURE_SCORE : CAPTURE_SCORE) + captureScore(move);
+            } else if (PackedMove.sameMove(move, firstKiller)) {
+                score = FIRST_KILLER_SCORE;
+            } else if (PackedMove.sameMove(move, secondKiller)) {
+                score = SECOND_KILLER_SCORE;
+            } else if (PackedMove.sameMove(move, countermove)) {
+                score = COUNTERMOVE_SCORE;
+            } else {
+                score = tables.history(color, move);
+            }
+            scores[i] = score;
+        }
+    }
+
+    /**
+     * MVV-LVA: the value of the captured piece, decided by the attacker's type ordinal among equal victims.
+     * A promotion adds the value of the new piece.
+     */
+    private static int captureScore(int move) {
+        int score = 0;
+        PieceType victim = PackedMove.capturedType(move);
+        if (victim != null) {
+            int attacker = PackedMove.piece(move);
+            int attackerOrdinal = attacker < 0 ? 0 : Piece.typeIndex(attacker);
+            score += victim.getMidGameValue() * 8 - attackerOrdinal;
+        }
+        PieceType promotion = PackedMove.promotion(move);
+        if (promotion != null) {
+            score += promotion.getMidGameValue() * 8;
+        }
+        return score;
+    }
+
+    /**
+     * Taking a piece at least as valuable as the capturing one never loses material, only the other captures
+     * need the exchange evaluated.
+     */
+    private static boolean isLosingCapture(Board board, int move) {
+        PieceType victim = PackedMove.capturedType(move);
+        int attacker = PackedMove.piece(move);
+        if (victim == null || PackedMove.isPromotion(move) || attacker < 0) return false;
+        if (victim.getMidGameValue() >= Piece.typeOf(attacker).getMidGameValue()) return false;
+        return StaticExchange.see(board, move) < 0;
+    }
+
+    /**
+     * @return The best move not handed out yet, or {@link PackedMove#NO_MOVE} when all moves were picked.
+     */
+    public int next() {
+        int size = moves.size();
+        if (index >= size) return PackedMove.NO_MOVE;
+
+        int best = index;
+        for (int i = index + 1; i < size; i++) {
+            if (scores[i] > scores[best]) best = i;
+        }
+        moves.swap(index, best);
+        int score = scores[index];
+        scores[index] = scores[best];
+        scores[best] = score;
+        return moves.get(index++);
+    }
+
+    /**
+     * @return The number of moves handed out so far, they are at the front of the move list in picking order.
+     */
+    public int picked() {
+        return index;
+    }
+}
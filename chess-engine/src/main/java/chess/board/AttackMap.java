@@ -0,0 +1,203 @@
+package chess.board;
+
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+
+import static chess.engine.pre_computations.PreComputationHandler.*;
+
+/**
+ * The attacked squares of a position, computed in one pass over the pieces: per side, per piece type and
+ * color (indexed by {@link Piece} code) and per occupied square. A board owns one instance and refills it
+ * lazily through {@link Board#getAttackMap()}, so check detection, legality, validation and evaluation of a
+ * position all share a single computation instead of each rebuilding the threats.
+ * <p>
+ * Sliding attacks of a side look through the enemy king. Squares behind a checked king on the checking line
+ * therefore count as attacked, which is what is needed to tell whether the king may step there.
+ * <p>
+ * The same pass counts what the evaluation needs of the attacks of the knights, bishops, rooks and queens, so
+ * the attacks are never generated a second time: their mobility (the attacked squares not occupied by an own
+ * piece nor attacked by an enemy pawn) and their attacks on the squares around the enemy king.
+ */
+public final class AttackMap {
+
+    private final long[] attacksFrom = new long[64];
+    private final long[] pieceAttacks = new long[12];
+    private final long[] sideAttacks = new long[2];
+    // Indexed by piece code, summed over the pieces of the code
+    private final int[] mobility = new int[12];
+    private final int[] kingZoneAttacks = new int[12];
+    // Indexed by PieceColor ordinal, the pieces of the side attacking the zone of the enemy king
+    private final int[] kingAttackers = new int[2];
+
+    private long occupancy;
+    private long key;
+    private boolean valid;
+
+    /**
+     * Recomputes all attacks for the current position of the board.
+     *
+     * @param board The board to compute the attacks of.
+     */
+    public void compute(Board board) {
+        Bitboard bitboard = board.getBitboard();
+        occupancy = bitboard.getAllOccupancies();
+        sideAttacks[0] = computeSide(bitboard, PieceColor.WHITE, occupancy ^ bitboard.getBlackKing());
+        sideAttacks[1] = computeSide(bitboard, PieceColor.BLACK, occupancy ^ bitboard.getWhiteKing());
+        key = bitboard.getZobristKey();
+        valid = true;
+    }
+
+    private long computeSide(Bitboard bitboard, PieceColor color, long blockers) {
+        boolean white = color == PieceColor.WHITE;
+        long[] pawnAttacks = white ? WHITE_PAWN_ATTACKS : BLACK_PAWN_ATTACKS;
+        long enemyPawnAttacks = white ? blackPawnAttacks(bitboard.getBlackPawns()) : whitePawnAttacks(bitboard.getWhitePawns());
+        long mobilityArea = ~(bitboard.getOccupancies(color) | enemyPawnAttacks);
+        long enemyKing = white ? bitboard.getBlackKing() : bitboard.getWhiteKing();
+        long kingZone = enemyKing == 0 ? 0L
+                : (white ? BLACK_KING_ZONES : WHITE_KING_ZONES)[Long.numberOfTrailingZeros(enemyKing)];
+        int attackers = 0;
+        long all = 0L;
+        for (PieceType pieceType : PieceType.VALUES) {
+            int code = Piece.code(pieceType, color);
+            // Pawns and kings have no mobility and do not count as king attackers
+            boolean counted = pieceType != PieceType.PAWN && pieceType != PieceType.KING;
+            long attacks = 0L;
+            int safeSquares = 0;
+            int zoneAttacks = 0;
+            for (long pieces = bitboard.getBitboard(code); pieces != 0; pieces &= pieces - 1) {
+                int square = Long.numberOfTrailingZeros(pieces);
+                long from = switch (pieceType) {
+                    case PAWN -> pawnAttacks[square];
+                    case KNIGHT -> KNIGHT_ATTACKS[square];
+                    case BISHOP -> bishopAttacks(square, blockers);
+                    case ROOK -> rookAttacks(square, blockers);
+                    case QUEEN -> queenAttacks(square, blockers);
+                    case KING -> KING_ATTACKS[square];
+                };
+                attacksFrom[square] = from;
+                attacks |= from;
+                if (counted) {
+                    safeSquares += Long.bitCount(from & mobilityArea);
+                    int zone = Long.bitCount(from & kingZone);
+                    zoneAttacks += zone;
+                    if (zone != 0) attackers++;
+                }
+            }
+            pieceAttacks[code] = attacks;
+            mobility[code] = safeSquares;
+            kingZoneAttacks[code] = zoneAttacks;
+            all |= attacks;
+        }
+        kingAttackers[color.ordinal()] = attackers;
+        return all;
+    }
+
+    /**
+     * Marks the map as outdated, the next {@link Board#getAttackMap()} recomputes it.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Checks whether the map was computed for the given piece placement key and has not been invalidated.
+     *
+     * @param pieceKey The Zobrist key of the piece placement ({@link Bitboard#getZobristKey()}).
+     * @return true if the map is up to date.
+     */
+    public boolean isValidFor(long pieceKey) {
+        return valid && key == pieceKey;
+    }
+
+    /**
+     * @return All squares attacked by the pieces of the given color.
+     */
+    public long attacks(PieceColor color) {
+        return sideAttacks[color.ordinal()];
+    }
+
+    /**
+     * @return All squares attacked by the pieces of the given type and color.
+     */
+    public long attacks(PieceType pieceType, PieceColor color) {
+        return pieceAttacks[Piece.code(pieceType, color)];
+    }
+
+    /**
+     * Returns the squares attacked by the piece on the given square. Only meaningful for occupied squares.
+     *
+     * @param square The square of the piece (0-63).
+     * @return The attack bitboard of the piece.
+     */
+    public long attacksFrom(int square) {
+        return (occupancy & (1L << square)) != 0 ? attacksFrom[square] : 0L;
+    }
+
+    /**
+     * @return The number of squares the pieces of the given type and color move to safely, summed over the
+     * pieces: attacked squares not occupied by an own piece and not attacked by an enemy pawn. 0 for pawns and
+     * kings.
+     */
+    public int mobility(PieceType pieceType, PieceColor color) {
+        return mobility[Piece.code(pieceType, color)];
+    }
+
+    /**
+     * @return The number of attacks of the pieces of the given type and color on the king zone of the enemy
+     * king ({@code WHITE_KING_ZONES} and {@code BLACK_KING_ZONES}), a square attacked by two pieces counting
+     * twice. 0 for pawns and kings.
+     */
+    public int kingZoneAttacks(PieceType pieceType, PieceColor color) {
+        return kingZoneAttacks[Piece.code(pieceType, color)];
+    }
+
+    /**
+     * @return The number of knights, bishops, rooks and queens of the given color attacking the zone of the
+     * enemy king.
+     */
+    public int kingAttackers(PieceColor color) {
+        return kingAttackers[color.ordinal()];
+    }
+
+    /**
+     * @return true if the square is attacked by at least one piece of the given color.
+     */
+    public boolean isAttacked(int square, PieceColor color) {
+        return (sideAttacks[color.ordinal()] & (1L << square)) != 0;
+    }
+
+    /**
+     * Returns the pieces of the given color attacking a square in the position the map was computed for.
+     *
+     * @param board  The board the map was computed for.
+     * @param square The square to check (0-63).
+     * @param color  The color of the attacking side.
+     * @return The bitboard of the attacking pieces.
+     */
+    public long attackersTo(Board board, int square, PieceColor color) {
+        return attackersTo(board.getBitboard(), square, color, occupancy);
+    }
+
+    /**
+     * Returns the pieces of the given color attacking a square, by looking outwards from the square with each
+     * piece's attack pattern and intersecting with the attacker's pieces. Sliders are blocked by the given
+     * occupancy, which may differ from the board's to look through a piece.
+     *
+     * @param bitboard  The piece placement.
+     * @param square    The square to check (0-63).
+     * @param color     The color of the attacking side.
+     * @param occupancy The blockers for the sliding pieces.
+     * @return The bitboard of the attacking pieces.
+     */
+    public static long attackersTo(Bitboard bitboard, int square, PieceColor color, long occupancy) {
+        long pawnAttacks = color == PieceColor.WHITE ? BLACK_PAWN_ATTACKS[square] : WHITE_PAWN_ATTACKS[square];
+        long queens = bitboard.getBitboardForPieceTypeAndColor(PieceType.QUEEN, color);
+        long diagonal = bitboard.getBitboardForPieceTypeAndColor(PieceType.BISHOP, color) | queens;
+        long straight = bitboard.getBitboardForPieceTypeAndColor(PieceType.ROOK, color) | queens;
+        return (pawnAttacks & bitboard.getBitboardForPieceTypeAndColor(PieceType.PAWN, color))
+                | (KNIGHT_ATTACKS[square] & bitboard.getBitboardForPieceTypeAndColor(PieceType.KNIGHT, color))
+                | (KING_ATTACKS[square] & bitboard.getBitboardForPieceTypeAndColor(PieceType.KING, color))
+                | (bishopAttacks(square, occupancy) & diagonal)
+                | (rookAttacks(square, occupancy) & straight);
+    }
+}
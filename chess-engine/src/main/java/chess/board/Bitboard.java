@@ -2,19 +2,66 @@ package chess.board;
 
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
+import chess.engine.evaluation.piece_board_evaluation.PieceSquareTables;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Arrays;
 
 /**
  * The Bitboard class represents the state of a chessboard using bitboards.
  * Each piece type and color combination is represented by a separate bitboard.
  * The bitboards are used to efficiently track the positions of pieces on the chessboard.
+ * The twelve bitboards are stored in one {@code long[12]} indexed by {@link Piece} code ({@code color * 6 + type}),
+ * so every access is a single array load. The occupancy of each color and of the whole board is cached and
+ * updated on every placement and removal instead of being OR-ed together from six bitboards per call.
+ * Alongside the bitboards a 64 square mailbox of {@link Piece} codes is kept in sync, so the piece on a
+ * square can be read with a single array load instead of testing every bitboard, and a Zobrist key of the
+ * piece placement is updated by XOR on every placement and removal (see {@link Zobrist}), next to a key of the
+ * pawns alone for the pawn hash table of the evaluation. In the same way the material and piece-square score
+ * of the position ({@link PieceSquareTables}) and its game phase are kept up to date, so evaluating a position
+ * does not have to look at its pieces.
+ * A square holds at most one piece.
  */
 @Data
 public class Bitboard {
 
     // the long primitive datatype consist of 64bits, which is ideal for representing a bitboard
-    private long whiteKing, whiteQueens, whiteRooks, whiteBishops, whiteKnights, whitePawns;
-    private long blackKing, blackQueens, blackRooks, blackBishops, blackKnights, blackPawns;
+    // One bitboard per piece code: white pawn..king are 0-5 and black 6-11 in PieceType order
+    @Getter(AccessLevel.NONE)
+    private final long[] pieces = new long[12];
+
+    // Occupancy per color (indexed by PieceColor ordinal) and of both colors together
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final long[] occupancies = new long[2];
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private long allOccupancies;
+
+    // Piece code per square, Piece.EMPTY for empty squares
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final byte[] mailbox = new byte[64];
+
+    // Zobrist key of the piece placement, the side to move and game state keys are added by Board
+    @Setter(AccessLevel.NONE)
+    private long zobristKey;
+
+    // Zobrist key of the pawns of both colors, the pawn structure evaluation is cached under it
+    @Setter(AccessLevel.NONE)
+    private long pawnKey;
+
+    // Packed midgame and endgame score of the pieces from white's point of view (see Score)
+    @Setter(AccessLevel.NONE)
+    private int pieceSquareScore;
+
+    // Sum of the game phase weights of the pieces, PieceSquareTables.MAX_GAME_PHASE for the full set
+    @Setter(AccessLevel.NONE)
+    private int gamePhase;
 
     /**
      * The SQUARE_MASKS array is a precomputed array of long values that represents the bit masks for each square
@@ -38,81 +85,63 @@ public class Bitboard {
      * Constructs a new Bitboard object and initializes all the bitboards to 0.
      */
     public Bitboard() {
-        // Initialize the bitboards to 0
-        whiteKing = whiteQueens = whiteRooks = whiteBishops = whiteKnights = whitePawns = 0L;
-        blackKing = blackQueens = blackRooks = blackBishops = blackKnights = blackPawns = 0L;
+        // The bitboards and occupancies start at 0
+        Arrays.fill(mailbox, Piece.EMPTY);
+        zobristKey = 0L;
+    }
+
+    /**
+     * Constructs a copy of another Bitboard, including its mailbox and Zobrist key.
+     *
+     * @param other The bitboard to copy.
+     */
+    public Bitboard(Bitboard other) {
+        copyFrom(other);
+    }
+
+    /**
+     * Replaces the position with a copy of another Bitboard, including its mailbox and Zobrist key.
+     *
+     * @param other The bitboard to copy.
+     */
+    public void copyFrom(Bitboard other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, 12);
+        System.arraycopy(other.occupancies, 0, occupancies, 0, 2);
+        allOccupancies = other.allOccupancies;
+        System.arraycopy(other.mailbox, 0, mailbox, 0, 64);
+        zobristKey = other.zobristKey;
+        pawnKey = other.pawnKey;
+        pieceSquareScore = other.pieceSquareScore;
+        gamePhase = other.gamePhase;
     }
 
     public void readFEN_String(String fen) {
-        String[] parts = fen.split(" ");
-        String[] ranks = parts[0].split("/");
-
-        // Clear all bitboards
-        whiteKing = whiteQueens = whiteRooks = whiteBishops = whiteKnights = whitePawns = 0L;
-        blackKing = blackQueens = blackRooks = blackBishops = blackKnights = blackPawns = 0L;
-
-        // Process each rank, starting from the 8th rank (top of the board) down to the 1st rank
-        for (int rank = 0; rank < 8; rank++) {
-            int file = 0; // Start from the leftmost file (a-file)
-            for (char ch : ranks[7 - rank].toCharArray()) { // Start from the last element to represent the 8th rank at the top
-                if (Character.isDigit(ch)) {
-                    file += Character.getNumericValue(ch); // Increment file index for empty squares
-                } else {
-                    PieceType pieceType = PieceType.fromFENChar(ch);
-                    PieceColor pieceColor = Character.isUpperCase(ch) ? PieceColor.WHITE : PieceColor.BLACK;
-                    int square = rank * 8 + file; // Calculate square index based on rank and file
-                    placePieceOnSquare(square, pieceType, pieceColor);
-                    file++; // Move rightwards after placing each piece
-                }
-            }
-        }
+        FenCodec.readPlacement(this, fen, 0);
     }
 
+    /**
+     * Removes all pieces from the board.
+     */
+    public void clear() {
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(occupancies, 0L);
+        allOccupancies = 0L;
+        Arrays.fill(mailbox, Piece.EMPTY);
+        zobristKey = 0L;
+        pawnKey = 0L;
+        pieceSquareScore = 0;
+        gamePhase = 0;
+    }
 
     /**
      * Converts the current state of the bitboards into a Forsyth-Edwards Notation (FEN) string.
-     * The FEN string represents the placement of pieces on the chessboard, as well as additional
-     * game state information such as the active player, castling availability, en passant target,
-     * halfmove clock, and fullmove number.
+     * The bitboard only holds the piece placement, so the remaining fields are the defaults of the
+     * starting position. Use {@link FenCodec#write(Board, StringBuilder)} for the full game state.
      *
-     * @return A string in FEN format representing the current game state.
+     * @return A string in FEN format representing the piece placement.
      */
     public String convertBitboardToFEN() {
-        StringBuilder fen = new StringBuilder();
-        // Process each rank starting from 8 down to 1
-        for (int rank = 7; rank >= 0; rank--) {
-            int emptyCount = 0;  // counts empty squares in the rank
-
-            for (int file = 0; file < 8; file++) {
-                int index = rank * 8 + file;  // Finds the index based on rank and file
-                char piece = getPiece(index);  // Finds the piece for an index
-
-                if (piece == ' ') {
-                    emptyCount++;  // Increment count of empty squares
-                } else {
-                    if (emptyCount != 0) {
-                        fen.append(emptyCount);  // Append number of empty squares before the piece
-                        emptyCount = 0;  // Reset empty square count
-                    }
-                    fen.append(piece);  // Set the piece in the FEN
-                }
-            }
-
-            if (emptyCount != 0) {
-                fen.append(emptyCount);  // Append remaining empty squares at the end of the rank
-            }
-            if (rank > 0) {
-                fen.append('/');  // Add slash to separate ranks except for the last one
-            }
-        }
-
-        // TODO Here we need to add all the functionality for the rest of the FEN String.
-        // THis means that when the move by the enige has been made, we need to update the
-        // turn, move, half move, castling rights and en passant square. And then we send it
-        // to the frontend for it to load.
-        fen.append(" w KQkq - 0 1");
-
-        return fen.toString();
+        return FenCodec.writePlacement(this, new StringBuilder(90)).append(" w KQkq - 0 1").toString();
     }
 
 
@@ -125,9 +154,19 @@ public class Bitboard {
      */
     public void placePieceOnSquare(int square, PieceType pieceType, PieceColor pieceColor) {
         long mask = SQUARE_MASKS[square];  // For square 0, mask will be 0b1
-        long bitboard = getBitboardForPieceTypeAndColor(pieceType, pieceColor);
-        bitboard |= mask;
-        setBitboardForPieceTypeAndColor(pieceType, pieceColor, bitboard);
+        int code = Piece.code(pieceType, pieceColor);
+        if ((pieces[code] & mask) == 0) {
+            // Only a newly set bit changes the key and the score
+            long key = Zobrist.pieceSquareKey(code, square);
+            zobristKey ^= key;
+            if (pieceType == PieceType.PAWN) pawnKey ^= key;
+            pieceSquareScore += PieceSquareTables.score(code, square);
+            gamePhase += PieceSquareTables.getGamePhaseInc(pieceType);
+        }
+        pieces[code] |= mask;
+        occupancies[pieceColor.ordinal()] |= mask;
+        allOccupancies |= mask;
+        mailbox[square] = (byte) code;
     }
 
     /**
@@ -139,9 +178,30 @@ public class Bitboard {
      */
     public void removePieceFromSquare(int square, PieceType pieceType, PieceColor pieceColor) {
         long mask = SQUARE_MASKS[square];
-        long bitboard = getBitboardForPieceTypeAndColor(pieceType, pieceColor);
-        bitboard &= ~mask;
-        setBitboardForPieceTypeAndColor(pieceType, pieceColor, bitboard);
+        int code = Piece.code(pieceType, pieceColor);
+        if ((pieces[code] & mask) != 0) {
+            // Only a cleared bit changes the key and the score
+            long key = Zobrist.pieceSquareKey(code, square);
+            zobristKey ^= key;
+            if (pieceType == PieceType.PAWN) pawnKey ^= key;
+            pieceSquareScore -= PieceSquareTables.score(code, square);
+            gamePhase -= PieceSquareTables.getGamePhaseInc(pieceType);
+        }
+        pieces[code] &= ~mask;
+        if (mailbox[square] == code) {
+            clearOccupancy(square, pieceColor);
+        }
+    }
+
+    /**
+     * Returns the piece on the given square with a single mailbox lookup.
+     * Use {@link Piece#typeOf(int)} and {@link Piece#colorOf(int)} to decode it.
+     *
+     * @param square The index of the square (0-63).
+     * @return The {@link Piece} code of the piece on the square, or {@link Piece#EMPTY}.
+     */
+    public int pieceAt(int square) {
+        return mailbox[square];
     }
 
     /**
@@ -153,8 +213,7 @@ public class Bitboard {
      * @return true if the square is occupied by the specified piece type and color, false otherwise.
      */
     public boolean isSquareOccupiedByPiece(int square, PieceType pieceType, PieceColor pieceColor) {
-        long bitboard = getBitboardForPieceTypeAndColor(pieceType, pieceColor);
-        return (bitboard & SQUARE_MASKS[square]) != 0;
+        return (pieces[Piece.code(pieceType, pieceColor)] & SQUARE_MASKS[square]) != 0;
     }
 
     /**
@@ -197,20 +256,7 @@ public class Bitboard {
     }
 
     private char getPiece(int i) {
-        char piece = ' ';
-        if ((whiteKing & SQUARE_MASKS[i]) != 0) piece = 'K';
-        else if ((whiteQueens & SQUARE_MASKS[i]) != 0) piece = 'Q';
-        else if ((whiteRooks & SQUARE_MASKS[i]) != 0) piece = 'R';
-        else if ((whiteBishops & SQUARE_MASKS[i]) != 0) piece = 'B';
-        else if ((whiteKnights & SQUARE_MASKS[i]) != 0) piece = 'N';
-        else if ((whitePawns & SQUARE_MASKS[i]) != 0) piece = 'P';
-        else if ((blackKing & SQUARE_MASKS[i]) != 0) piece = 'k';
-        else if ((blackQueens & SQUARE_MASKS[i]) != 0) piece = 'q';
-        else if ((blackRooks & SQUARE_MASKS[i]) != 0) piece = 'r';
-        else if ((blackBishops & SQUARE_MASKS[i]) != 0) piece = 'b';
-        else if ((blackKnights & SQUARE_MASKS[i]) != 0) piece = 'n';
-        else if ((blackPawns & SQUARE_MASKS[i]) != 0) piece = 'p';
-        return piece;
+        return Piece.toFENChar(mailbox[i]);
     }
 
 
@@ -221,45 +267,125 @@ public class Bitboard {
      * @param pieceType  The type of the piece (e.g., KING, QUEEN, ROOK, etc.).
      * @param pieceColor The color of the piece (WHITE or BLACK).
      * @return The bitboard corresponding to the specified piece type and color.
-     * @throws IllegalArgumentException if the piece type is invalid.
      */
     public long getBitboardForPieceTypeAndColor(PieceType pieceType, PieceColor pieceColor) {
-        return switch (pieceType) {
-            case KING -> pieceColor == PieceColor.WHITE ? whiteKing : blackKing;
-            case QUEEN -> pieceColor == PieceColor.WHITE ? whiteQueens : blackQueens;
-            case ROOK -> pieceColor == PieceColor.WHITE ? whiteRooks : blackRooks;
-            case BISHOP -> pieceColor == PieceColor.WHITE ? whiteBishops : blackBishops;
-            case KNIGHT -> pieceColor == PieceColor.WHITE ? whiteKnights : blackKnights;
-            case PAWN -> pieceColor == PieceColor.WHITE ? whitePawns : blackPawns;
-            default -> throw new IllegalArgumentException("Unknown piece type: " + pieceType);
-        };
+        return pieces[Piece.code(pieceType, pieceColor)];
     }
 
     /**
-     * Sets the appropriate bitboard for the given piece type and color.
+     * Retrieves the bitboard of the pieces with the given {@link Piece} code.
+     *
+     * @param code The piece code (0-11).
+     * @return The bitboard of the pieces with that code.
+     */
+    public long getBitboard(int code) {
+        return pieces[code];
+    }
+
+    /**
+     * Replaces the bitboard for the given piece type and color. The difference to the current bitboard is
+     * applied square by square through {@link #removePieceFromSquare} and {@link #placePieceOnSquare}, so the
+     * mailbox, the occupancies, both Zobrist keys, the score and the game phase stay in sync; a piece of another
+     * code standing on a newly set square is taken off the board first.
      *
      * @param pieceType  The type of the piece (e.g., KING, QUEEN, ROOK, etc.).
      * @param pieceColor The color of the piece (WHITE or BLACK).
      * @param bitboard   The bitboard value to set.
-     * @throws IllegalArgumentException if the piece type is invalid.
      */
-    private void setBitboardForPieceTypeAndColor(PieceType pieceType, PieceColor pieceColor, long bitboard) {
-        switch (pieceType) {
-            case KING:   if (pieceColor == PieceColor.WHITE) whiteKing = bitboard; else blackKing = bitboard; break;
-            case QUEEN:  if (pieceColor == PieceColor.WHITE) whiteQueens = bitboard; else blackQueens = bitboard; break;
-            case ROOK:   if (pieceColor == PieceColor.WHITE) whiteRooks = bitboard; else blackRooks = bitboard; break;
-            case BISHOP: if (pieceColor == PieceColor.WHITE) whiteBishops = bitboard; else blackBishops = bitboard; break;
-            case KNIGHT: if (pieceColor == PieceColor.WHITE) whiteKnights = bitboard; else blackKnights = bitboard; break;
-            case PAWN:   if (pieceColor == PieceColor.WHITE) whitePawns = bitboard; else blackPawns = bitboard; break;
-            default: throw new IllegalArgumentException("Unknown piece type: " + pieceType);
+    public void setBitboardForPieceTypeAndColor(PieceType pieceType, PieceColor pieceColor, long bitboard) {
+        long previous = pieces[Piece.code(pieceType, pieceColor)];
+        for (long removed = previous & ~bitboard; removed != 0; removed &= removed - 1) {
+            removePieceFromSquare(Long.numberOfTrailingZeros(removed), pieceType, pieceColor);
+        }
+        for (long added = bitboard & ~previous; added != 0; added &= added - 1) {
+            int square = Long.numberOfTrailingZeros(added);
+            int other = mailbox[square];
+            if (other != Piece.EMPTY) {
+                removePieceFromSquare(square, Piece.typeOf(other), Piece.colorOf(other));
+            }
+            placePieceOnSquare(square, pieceType, pieceColor);
         }
     }
 
+    public void setWhiteKing(long whiteKing) { setBitboardForPieceTypeAndColor(PieceType.KING, PieceColor.WHITE, whiteKing); }
+    public void setWhiteQueens(long whiteQueens) { setBitboardForPieceTypeAndColor(PieceType.QUEEN, PieceColor.WHITE, whiteQueens); }
+    public void setWhiteRooks(long whiteRooks) { setBitboardForPieceTypeAndColor(PieceType.ROOK, PieceColor.WHITE, whiteRooks); }
+    public void setWhiteBishops(long whiteBishops) { setBitboardForPieceTypeAndColor(PieceType.BISHOP, PieceColor.WHITE, whiteBishops); }
+    public void setWhiteKnights(long whiteKnights) { setBitboardForPieceTypeAndColor(PieceType.KNIGHT, PieceColor.WHITE, whiteKnights); }
+    public void setWhitePawns(long whitePawns) { setBitboardForPieceTypeAndColor(PieceType.PAWN, PieceColor.WHITE, whitePawns); }
+    public void setBlackKing(long blackKing) { setBitboardForPieceTypeAndColor(PieceType.KING, PieceColor.BLACK, blackKing); }
+    public void setBlackQueens(long blackQueens) { setBitboardForPieceTypeAndColor(PieceType.QUEEN, PieceColor.BLACK, blackQueens); }
+    public void setBlackRooks(long blackRooks) { setBitboardForPieceTypeAndColor(PieceType.ROOK, PieceColor.BLACK, blackRooks); }
+    public void setBlackBishops(long blackBishops) { setBitboardForPieceTypeAndColor(PieceType.BISHOP, PieceColor.BLACK, blackBishops); }
+    public void setBlackKnights(long blackKnights) { setBitboardForPieceTypeAndColor(PieceType.KNIGHT, PieceColor.BLACK, blackKnights); }
+    public void setBlackPawns(long blackPawns) { setBitboardForPieceTypeAndColor(PieceType.PAWN, PieceColor.BLACK, blackPawns); }
+
+    public long getWhiteKing() { return pieces[Piece.WHITE_KING]; }
+    public long getWhiteQueens() { return pieces[Piece.WHITE_QUEEN]; }
+    public long getWhiteRooks() { return pieces[Piece.WHITE_ROOK]; }
+    public long getWhiteBishops() { return pieces[Piece.WHITE_BISHOP]; }
+    public long getWhiteKnights() { return pieces[Piece.WHITE_KNIGHT]; }
+    public long getWhitePawns() { return pieces[Piece.WHITE_PAWN]; }
+    public long getBlackKing() { return pieces[Piece.BLACK_KING]; }
+    public long getBlackQueens() { return pieces[Piece.BLACK_QUEEN]; }
+    public long getBlackRooks() { return pieces[Piece.BLACK_ROOK]; }
+    public long getBlackBishops() { return pieces[Piece.BLACK_BISHOP]; }
+    public long getBlackKnights() { return pieces[Piece.BLACK_KNIGHT]; }
+    public long getBlackPawns() { return pieces[Piece.BLACK_PAWN]; }
+
+    /**
+     * Empties a square in the mailbox and the occupancies after its piece was taken off its bitboard.
+     */
+    private void clearOccupancy(int square, PieceColor pieceColor) {
+        long mask = SQUARE_MASKS[square];
+        mailbox[square] = Piece.EMPTY;
+        occupancies[pieceColor.ordinal()] &= ~mask;
+        allOccupancies &= ~mask;
+    }
+
+    /**
+     * Recomputes the Zobrist key of the piece placement from scratch. The result must always equal
+     * {@link #getZobristKey()}, which is maintained incrementally; this is meant for verification.
+     *
+     * @return The Zobrist key of the piece placement.
+     */
+    public long computeZobristKey() {
+        long key = 0L;
+        for (PieceColor color : PieceColor.values()) {
+            for (PieceType type : PieceType.values()) {
+                int code = Piece.code(type, color);
+                for (long bitboard = pieces[code]; bitboard != 0; bitboard &= bitboard - 1) {
+                    key ^= Zobrist.pieceSquareKey(code, Long.numberOfTrailingZeros(bitboard));
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Two bitboards are equal when they hold the same pieces on the same squares.
+     * The Zobrist keys are compared first as a cheap rejection test.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Bitboard other)) return false;
+        return zobristKey == other.zobristKey && Arrays.equals(pieces, other.pieces);
+    }
+
+    /**
+     * The hash code is taken from the incrementally maintained Zobrist key instead of hashing all bitboards.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristKey);
+    }
+
+    /**
+     * @return The squares occupied by the pieces of the given color, read from the cached occupancy.
+     */
     public long getOccupancies(PieceColor color) {
-        return switch (color) {
-            case WHITE -> whiteKing | whiteQueens | whiteRooks | whiteBishops | whiteKnights | whitePawns;
-            case BLACK -> blackKing | blackQueens | blackRooks | blackBishops | blackKnights | blackPawns;
-        };
+        return occupancies[color.ordinal()];
     }
 
 
@@ -6,8 +6,15 @@ import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
 import chess.engine.move_validation.interfaces.PieceValidator;
 import chess.engine.move_validation.service.MoveValidator;
+import chess.utility.MoveHistory;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Arrays;
 
 @Data
 @EqualsAndHashCode
@@ -15,18 +22,88 @@ public final class Board {
 
     private Bitboard bitboard;
     private PieceColor currentPlayer;
-    private GamePhase gamePhase;
     private boolean check;
     private boolean checkmate;
 
+    // Castling rights bit mask, see the CASTLE_* constants
+    private int castlingRights;
+    // Square a pawn can be captured on en passant, -1 when the last move was not a double pawn push
+    private int enPassantSquare;
+    private int halfmoveClock;
+    private int fullmoveNumber;
+
+    // Zobrist keys of the game state (side to move, castling, en passant), the piece placement key lives in the Bitboard
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private long stateKey;
+
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final MoveHistory history = new MoveHistory();
+
+    // Attacks of the current position, filled on first use and invalidated by every move
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AttackMap attackMap = new AttackMap();
+
+    public static final int CASTLE_WHITE_KING_SIDE = 1;
+    public static final int CASTLE_WHITE_QUEEN_SIDE = 2;
+    public static final int CASTLE_BLACK_KING_SIDE = 4;
+    public static final int CASTLE_BLACK_QUEEN_SIDE = 8;
+
+    // The endgame starts when the pieces left weigh no more than a rook and a minor piece per side, counting
+    // a minor piece 1, a rook 2 and a queen 4 (the full set weighs 24, see PieceSquareTables.getGamePhaseInc)
+    private static final int END_GAME_PHASE = 6;
+
+    /**
+     * Castling rights that survive a move touching the square, a move from or to a king or rook home square
+     * removes the rights that depend on it.
+     */
+    private static final int[] CASTLING_RIGHTS_MASK = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_RIGHTS_MASK, 15);
+        CASTLING_RIGHTS_MASK[0] = ~CASTLE_WHITE_QUEEN_SIDE & 15;                             // A1
+        CASTLING_RIGHTS_MASK[4] = ~(CASTLE_WHITE_KING_SIDE | CASTLE_WHITE_QUEEN_SIDE) & 15;  // E1
+        CASTLING_RIGHTS_MASK[7] = ~CASTLE_WHITE_KING_SIDE & 15;                              // H1
+        CASTLING_RIGHTS_MASK[56] = ~CASTLE_BLACK_QUEEN_SIDE & 15;                            // A8
+        CASTLING_RIGHTS_MASK[60] = ~(CASTLE_BLACK_KING_SIDE | CASTLE_BLACK_QUEEN_SIDE) & 15; // E8
+        CASTLING_RIGHTS_MASK[63] = ~CASTLE_BLACK_KING_SIDE & 15;                             // H8
+    }
+
     public Board() {
         this.bitboard = new Bitboard();
         this.currentPlayer = PieceColor.WHITE;
         this.check = false;
         this.checkmate = false;
+        this.enPassantSquare = -1;
+        this.fullmoveNumber = 1;
+        setCastlingRights(CASTLE_WHITE_KING_SIDE | CASTLE_WHITE_QUEEN_SIDE | CASTLE_BLACK_KING_SIDE | CASTLE_BLACK_QUEEN_SIDE);
         initializeBoard();
     }
 
+    /**
+     * Constructs an independent copy of another board's position and game state, so that the copy can be
+     * searched on another thread. The move history of the copy starts empty.
+     *
+     * @param other The board to copy.
+     */
+    public Board(Board other) {
+        this.bitboard = new Bitboard(other.bitboard);
+        this.currentPlayer = other.currentPlayer;
+        this.check = other.check;
+        this.checkmate = other.checkmate;
+        this.castlingRights = other.castlingRights;
+        this.enPassantSquare = other.enPassantSquare;
+        this.halfmoveClock = other.halfmoveClock;
+        this.fullmoveNumber = other.fullmoveNumber;
+        this.stateKey = other.stateKey;
+    }
+
     /**
      * The initialization of the boards ensures each position of
      *       A    B    C    D    E    F    G    H
@@ -87,7 +164,7 @@ public final class Board {
         bitboard.placePieceOnSquare(5, PieceType.BISHOP, PieceColor.WHITE);  // F1
         bitboard.placePieceOnSquare(6, PieceType.KNIGHT, PieceColor.WHITE);  // G1
         bitboard.placePieceOnSquare(7, PieceType.ROOK, PieceColor.WHITE);    // H1
-        for (int i = 7; i <= 15; i++) {
+        for (int i = 8; i <= 15; i++) {
             bitboard.placePieceOnSquare(i, PieceType.PAWN, PieceColor.WHITE); // A2 to H2
         }
 
@@ -109,8 +186,9 @@ public final class Board {
 
     public void movePiece(int fromSquare, int toSquare) {
         if (!PieceValidator.isWithinBoardBounds(toSquare)) return;
-        PieceType pieceType = getPieceTypeAtSquare(fromSquare);
-        PieceColor pieceColor = getPieceColorAtSquare(fromSquare);
+        int piece = bitboard.pieceAt(fromSquare);
+        PieceType pieceType = Piece.typeOf(piece);
+        PieceColor pieceColor = Piece.colorOf(piece);
 
         // Validate Move Actions
         if (pieceType == PieceType.PAWN && !MoveValidator.validatePawnMoves(this, fromSquare, toSquare, pieceColor))
@@ -130,34 +208,237 @@ public final class Board {
         bitboard.placePieceOnSquare(toSquare, pieceType, pieceColor);
     }
 
+    /**
+     * Returns the piece on the given square as a {@link Piece} code, read from the mailbox in one array load.
+     *
+     * @param square The index of the square (0-63).
+     * @return The piece code, or {@link Piece#EMPTY} if the square is empty.
+     */
+    public int pieceAt(int square) {
+        return bitboard.pieceAt(square);
+    }
+
     public PieceType getPieceTypeAtSquare(int square) {
-        for (PieceColor color : PieceColor.values()) {
-            for (PieceType type : PieceType.values()) {
-                if (bitboard.isSquareOccupiedByPiece(square, type, color)) {
-                    return type;
-                }
-            }
-        }
-        return null;
+        return Piece.typeOf(bitboard.pieceAt(square));
     }
 
     public PieceColor getPieceColorAtSquare(int square) {
-        for (PieceColor color : PieceColor.values()) {
-            for (PieceType type : PieceType.values()) {
-                if (bitboard.isSquareOccupiedByPiece(square, type, color)) {
-                    return color;
-                }
-            }
-        }
-        return null;
+        return Piece.colorOf(bitboard.pieceAt(square));
     }
 
     public void updateGameState(PieceColor nextPlayer, boolean isCheck, boolean isCheckmate) {
-        this.currentPlayer = nextPlayer;
+        setCurrentPlayer(nextPlayer);
         this.check = isCheck;
         this.checkmate = isCheckmate;
     }
 
+    public void setCurrentPlayer(PieceColor currentPlayer) {
+        if (this.currentPlayer != currentPlayer) {
+            stateKey ^= Zobrist.SIDE_TO_MOVE_KEY;
+        }
+        this.currentPlayer = currentPlayer;
+    }
+
+    public void setCastlingRights(int castlingRights) {
+        stateKey ^= Zobrist.castlingKey(this.castlingRights) ^ Zobrist.castlingKey(castlingRights);
+        this.castlingRights = castlingRights;
+    }
+
+    public void setEnPassantSquare(int enPassantSquare) {
+        stateKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.enPassantKey(enPassantSquare);
+        this.enPassantSquare = enPassantSquare;
+    }
+
+    /**
+     * Loads a position from a FEN string: the piece placement, side to move, castling rights, en passant
+     * square and both clocks. Missing trailing fields keep their defaults. The move history is cleared.
+     *
+     * @param fen The FEN string to load.
+     * @throws IllegalArgumentException if the FEN is invalid, the board keeps its position then.
+     */
+    public void readFEN(String fen) {
+        FenCodec.read(this, fen);
+        history.clear();
+        attackMap.invalidate();
+        check = false;
+        checkmate = false;
+    }
+
+    /**
+     * Creates a board holding the position of a FEN string, see {@link #readFEN(String)}.
+     *
+     * @param fen The FEN string to load.
+     * @return The new board.
+     * @throws IllegalArgumentException if the FEN is invalid.
+     */
+    public static Board fromFEN(String fen) {
+        Board board = new Board();
+        board.readFEN(fen);
+        return board;
+    }
+
+    /**
+     * Makes a move on the board and records what is needed to take it back on the {@link MoveHistory}.
+     * The move is assumed to be pseudo-legal for the side to move; it is not validated. Captures, en passant,
+     * castling, promotions, castling rights, the en passant square, both clocks, the side to move and the
+     * Zobrist key are all updated. Nothing is allocated.
+     *
+     * @param move The move packed with {@link PackedMove}.
+     */
+    public void makeMove(int move) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        int flag = PackedMove.flag(move);
+        int piece = bitboard.pieceAt(from);
+        PieceType pieceType = Piece.typeOf(piece);
+        PieceColor color = currentPlayer;
+
+        int captureSquare = flag == PackedMove.EN_PASSANT ? (color == PieceColor.WHITE ? to - 8 : to + 8) : to;
+        int captured = bitboard.pieceAt(captureSquare);
+        history.push(move, captured, getZobristKey(), castlingRights, enPassantSquare, halfmoveClock);
+        attackMap.invalidate();
+
+        if (captured != Piece.EMPTY) {
+            bitboard.removePieceFromSquare(captureSquare, Piece.typeOf(captured), Piece.colorOf(captured));
+        }
+        bitboard.removePieceFromSquare(from, pieceType, color);
+        bitboard.placePieceOnSquare(to, PackedMove.isPromotion(move) ? PackedMove.promotion(move) : pieceType, color);
+
+        if (flag == PackedMove.CASTLING) {
+            // The king moves two squares, the rook jumps to the square the king crossed
+            int rookFrom = to > from ? from + 3 : from - 4;
+            int rookTo = to > from ? from + 1 : from - 1;
+            bitboard.removePieceFromSquare(rookFrom, PieceType.ROOK, color);
+            bitboard.placePieceOnSquare(rookTo, PieceType.ROOK, color);
+        }
+
+        setEnPassantSquare(flag == PackedMove.DOUBLE_PAWN_PUSH ? (from + to) >>> 1 : -1);
+        setCastlingRights(castlingRights & CASTLING_RIGHTS_MASK[from] & CASTLING_RIGHTS_MASK[to]);
+        halfmoveClock = (pieceType == PieceType.PAWN || captured != Piece.EMPTY) ? 0 : halfmoveClock + 1;
+        if (color == PieceColor.BLACK) {
+            fullmoveNumber++;
+        }
+        currentPlayer = color.opposite();
+        stateKey ^= Zobrist.SIDE_TO_MOVE_KEY;
+    }
+
+    /**
+     * Takes back the last move made with {@link #makeMove(int)}, restoring the position exactly as it was,
+     * including the Zobrist key. Nothing is allocated.
+     *
+     * @throws IllegalStateException if there is no move to take back.
+     */
+    public void unmakeMove() {
+        int index = history.pop();
+        attackMap.invalidate();
+        int move = history.move(index);
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        int flag = PackedMove.flag(move);
+        PieceColor color = currentPlayer.opposite();
+
+        PieceType movedType = Piece.typeOf(bitboard.pieceAt(to));
+
+        bitboard.removePieceFromSquare(to, movedType, color);
+        bitboard.placePieceOnSquare(from, PackedMove.isPromotion(move) ? PieceType.PAWN : movedType, color);
+
+        if (flag == PackedMove.CASTLING) {
+            int rookFrom = to > from ? from + 3 : from - 4;
+            int rookTo = to > from ? from + 1 : from - 1;
+            bitboard.removePieceFromSquare(rookTo, PieceType.ROOK, color);
+            bitboard.placePieceOnSquare(rookFrom, PieceType.ROOK, color);
+        }
+
+        int captured = history.capturedPiece(index);
+        if (captured != Piece.EMPTY) {
+            int captureSquare = flag == PackedMove.EN_PASSANT ? (color == PieceColor.WHITE ? to - 8 : to + 8) : to;
+            bitboard.placePieceOnSquare(captureSquare, Piece.typeOf(captured), Piece.colorOf(captured));
+        }
+
+        castlingRights = history.castlingRights(index);
+        enPassantSquare = history.enPassantSquare(index);
+        halfmoveClock = history.halfmoveClock(index);
+        if (color == PieceColor.BLACK) {
+            fullmoveNumber--;
+        }
+        currentPlayer = color;
+        // With the pieces back in place, the state key is whatever the stored key holds on top of them
+        stateKey = history.zobristKey(index) ^ bitboard.getZobristKey();
+    }
+
+    /**
+     * Passes the turn to the opponent without moving a piece (a null move), for null-move pruning in the
+     * search. The en passant square is cleared and the halfmove clock restarts, so repetitions are never
+     * detected across the null move. Must be taken back with {@link #unmakeNullMove()}, not
+     * {@link #unmakeMove()}.
+     */
+    public void makeNullMove() {
+        history.push(PackedMove.NO_MOVE, Piece.EMPTY, getZobristKey(), castlingRights, enPassantSquare, halfmoveClock);
+        setEnPassantSquare(-1);
+        halfmoveClock = 0;
+        currentPlayer = currentPlayer.opposite();
+        stateKey ^= Zobrist.SIDE_TO_MOVE_KEY;
+        // The pieces did not move, so the attack map stays valid
+    }
+
+    /**
+     * Takes back a null move made with {@link #makeNullMove()}.
+     */
+    public void unmakeNullMove() {
+        int index = history.pop();
+        enPassantSquare = history.enPassantSquare(index);
+        halfmoveClock = history.halfmoveClock(index);
+        currentPlayer = currentPlayer.opposite();
+        stateKey = history.zobristKey(index) ^ bitboard.getZobristKey();
+    }
+
+    /**
+     * Returns the phase of the game from the pieces other than pawns and kings left on the board.
+     *
+     * @return {@link GamePhase#END_GAME} once at most a rook and a minor piece per side are left (by weight),
+     * {@link GamePhase#MID_GAME} before.
+     */
+    public GamePhase getGamePhase() {
+        return bitboard.getGamePhase() <= END_GAME_PHASE ? GamePhase.END_GAME : GamePhase.MID_GAME;
+    }
+
+    /**
+     * Returns the attacks of the current position, computing them once per position. The map is invalidated by
+     * {@link #makeMove}, {@link #unmakeMove} and {@link #readFEN}, and is also recomputed when the pieces were
+     * changed directly on the {@link Bitboard}, which is detected through the piece placement key.
+     *
+     * @return The up to date attack map of this board.
+     */
+    public AttackMap getAttackMap() {
+        if (!attackMap.isValidFor(bitboard.getZobristKey())) {
+            attackMap.compute(this);
+        }
+        return attackMap;
+    }
+
+    /**
+     * Returns the Zobrist key of the position: the incrementally maintained piece placement key of the
+     * bitboard combined with the game state key. Reading it costs two loads and an XOR.
+     *
+     * @return The 64-bit Zobrist key of the position.
+     */
+    public long getZobristKey() {
+        return bitboard.getZobristKey() ^ stateKey;
+    }
+
+    /**
+     * Recomputes the Zobrist key of the position from scratch, for verifying the incremental key.
+     *
+     * @return The 64-bit Zobrist key of the position.
+     */
+    public long computeZobristKey() {
+        long key = bitboard.computeZobristKey() ^ Zobrist.castlingKey(castlingRights) ^ Zobrist.enPassantKey(enPassantSquare);
+        if (currentPlayer == PieceColor.BLACK) {
+            key ^= Zobrist.SIDE_TO_MOVE_KEY;
+        }
+        return key;
+    }
+
     public boolean isWhite() {
         return currentPlayer == PieceColor.WHITE;
     }
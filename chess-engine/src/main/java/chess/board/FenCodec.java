@@ -0,0 +1,244 @@
+package chess.board;
+
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+
+/**
+ * Reads and writes positions in Forsyth-Edwards Notation: the piece placement, side to move, castling rights,
+ * en passant square, halfmove clock and fullmove number. FEN is the wire format of the engine endpoint, so both
+ * directions are written to do no more work than needed: parsing is a single left-to-right scan over the
+ * characters without splitting into strings or arrays, and writing appends to a caller-owned
+ * {@link StringBuilder} reading each square from the mailbox once.
+ * <p>
+ * Trailing fields may be left out when reading; they default to white to move, no castling rights, no en
+ * passant square, a halfmove clock of 0 and fullmove number 1.
+ */
+public final class FenCodec {
+
+    private FenCodec() {
+    }
+
+    /**
+     * Loads a complete FEN into a board. Called by {@link Board#readFEN(String)}, which also resets the move
+     * history and the attack map. The pieces are placed on a scratch bitboard first and every field is
+     * validated before the board is changed, so a board that was given an invalid FEN keeps its position.
+     *
+     * @param board The board to load the position into.
+     * @param fen   The FEN string.
+     * @throws IllegalArgumentException if the placement is malformed (see
+     *                                  {@link #readPlacement(Bitboard, CharSequence, int)}), a side has not
+     *                                  exactly one king or the en passant square is invalid (see
+     *                                  {@link #readEnPassantSquare}).
+     */
+    static void read(Board board, CharSequence fen) {
+        int length = fen.length();
+        int index = skipSpaces(fen, 0);
+        Bitboard placement = new Bitboard();
+        index = readPlacement(placement, fen, index);
+        if (Long.bitCount(placement.getWhiteKing()) != 1 || Long.bitCount(placement.getBlackKing()) != 1) {
+            throw new IllegalArgumentException("Each side needs exactly one king: " + fen);
+        }
+
+        // Side to move
+        index = skipSpaces(fen, index);
+        PieceColor sideToMove = index < length && fen.charAt(index) == 'b' ? PieceColor.BLACK : PieceColor.WHITE;
+        index = skipField(fen, index);
+
+        // Castling rights, '-' for none
+        index = skipSpaces(fen, index);
+        int rights = 0;
+        for (; index < length && fen.charAt(index) != ' '; index++) {
+            switch (fen.charAt(index)) {
+                case 'K' -> rights |= Board.CASTLE_WHITE_KING_SIDE;
+                case 'Q' -> rights |= Board.CASTLE_WHITE_QUEEN_SIDE;
+                case 'k' -> rights |= Board.CASTLE_BLACK_KING_SIDE;
+                case 'q' -> rights |= Board.CASTLE_BLACK_QUEEN_SIDE;
+                default -> { } // '-' means no castling rights
+            }
+        }
+
+        // En passant square, '-' for none
+        index = skipSpaces(fen, index);
+        int enPassantSquare = -1;
+        int end = skipField(fen, index);
+        if (end > index && fen.charAt(index) != '-') {
+            enPassantSquare = readEnPassantSquare(placement, sideToMove, fen, index, end);
+        }
+        index = end;
+
+        // Halfmove clock and fullmove number
+        index = skipSpaces(fen, index);
+        int halfmoveClock = index < length ? readNumber(fen, index) : 0;
+        index = skipSpaces(fen, skipField(fen, index));
+        int fullmoveNumber = index < length ? readNumber(fen, index) : 1;
+
+        board.getBitboard().copyFrom(placement);
+        board.setCurrentPlayer(sideToMove);
+        board.setCastlingRights(rights);
+        board.setEnPassantSquare(enPassantSquare);
+        board.setHalfmoveClock(halfmoveClock);
+        board.setFullmoveNumber(fullmoveNumber);
+    }
+
+    /**
+     * Reads the en passant square of a FEN. It lies behind a pawn that has just made a double push: on the
+     * sixth rank with white to move or on the third rank with black to move, with a pawn of the side that
+     * moved in front of it and both the square and the one the pawn came from empty. Any other square would
+     * let the move generator capture en passant where there is nothing to capture.
+     *
+     * @param placement  The pieces of the FEN.
+     * @param sideToMove The side to move of the FEN.
+     * @param fen        The text holding the square.
+     * @param index      The index of the first character of the square.
+     * @param end        The index just after the square.
+     * @return The en passant square.
+     * @throws IllegalArgumentException if the square is not a valid en passant square of the position.
+     */
+    private static int readEnPassantSquare(Bitboard placement, PieceColor sideToMove, CharSequence fen, int index, int end) {
+        boolean whiteToMove = sideToMove == PieceColor.WHITE;
+        char fileChar = fen.charAt(index);
+        char rankChar = end - index == 2 ? fen.charAt(index + 1) : ' ';
+        if (fileChar < 'a' || fileChar > 'h' || rankChar != (whiteToMove ? '6' : '3')) {
+            throw new IllegalArgumentException("Invalid en passant square: " + fen);
+        }
+        int square = (rankChar - '1') * 8 + (fileChar - 'a');
+        int pawnSquare = whiteToMove ? square - 8 : square + 8;
+        int originSquare = whiteToMove ? square + 8 : square - 8;
+        if (placement.pieceAt(pawnSquare) != Piece.code(PieceType.PAWN, sideToMove.opposite())
+                || placement.pieceAt(square) != Piece.EMPTY || placement.pieceAt(originSquare) != Piece.EMPTY) {
+            throw new IllegalArgumentException("No pawn has just made a double push to pass the en passant square: " + fen);
+        }
+        return square;
+    }
+
+    /**
+     * Clears the bitboard and places the pieces of a FEN placement field on it.
+     *
+     * @param bitboard The bitboard to fill.
+     * @param fen      The text holding the placement.
+     * @param index    The index of the first placement character.
+     * @return The index just after the placement field.
+     * @throws IllegalArgumentException if the placement contains an unknown character, or does not have exactly
+     *                                  8 ranks of exactly 8 files each.
+     */
+    static int readPlacement(Bitboard bitboard, CharSequence fen, int index) {
+        bitboard.clear();
+        int length = fen.length();
+        // FEN starts on a8 and runs along each rank, then down to the next
+        int rank = 7;
+        int file = 0;
+        for (; index < length; index++) {
+            char c = fen.charAt(index);
+            if (c == ' ') break;
+            if (c == '/') {
+                if (file != 8 || rank == 0) throw invalidPlacement(fen);
+                rank--;
+                file = 0;
+            } else if (c >= '1' && c <= '8') {
+                file += c - '0';
+                if (file > 8) throw invalidPlacement(fen);
+            } else {
+                if (file >= 8) throw invalidPlacement(fen);
+                int code = Piece.fromFENChar(c);
+                bitboard.placePieceOnSquare(rank * 8 + file, Piece.typeOf(code), Piece.colorOf(code));
+                file++;
+            }
+        }
+        if (rank != 0 || file != 8) throw invalidPlacement(fen);
+        return index;
+    }
+
+    private static IllegalArgumentException invalidPlacement(CharSequence fen) {
+        return new IllegalArgumentException("The placement needs 8 ranks of 8 files: " + fen);
+    }
+
+    private static int skipSpaces(CharSequence fen, int index) {
+        while (index < fen.length() && fen.charAt(index) == ' ') index++;
+        return index;
+    }
+
+    private static int skipField(CharSequence fen, int index) {
+        while (index < fen.length() && fen.charAt(index) != ' ') index++;
+        return index;
+    }
+
+    private static int readNumber(CharSequence fen, int index) {
+        int value = 0;
+        for (; index < fen.length(); index++) {
+            char c = fen.charAt(index);
+            if (c < '0' || c > '9') break;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Appends the complete FEN of a board to a builder. Reusing the builder (after {@code setLength(0)}) makes
+     * writing allocation free.
+     *
+     * @param board The board to write.
+     * @param out   The builder to append to.
+     * @return The same builder.
+     */
+    public static StringBuilder write(Board board, StringBuilder out) {
+        writePlacement(board.getBitboard(), out);
+        out.append(' ').append(board.getCurrentPlayer() == PieceColor.WHITE ? 'w' : 'b').append(' ');
+
+        int rights = board.getCastlingRights();
+        if (rights == 0) {
+            out.append('-');
+        } else {
+            if ((rights & Board.CASTLE_WHITE_KING_SIDE) != 0) out.append('K');
+            if ((rights & Board.CASTLE_WHITE_QUEEN_SIDE) != 0) out.append('Q');
+            if ((rights & Board.CASTLE_BLACK_KING_SIDE) != 0) out.append('k');
+            if ((rights & Board.CASTLE_BLACK_QUEEN_SIDE) != 0) out.append('q');
+        }
+
+        out.append(' ');
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare < 0) {
+            out.append('-');
+        } else {
+            out.append((char) ('a' + enPassantSquare % 8)).append((char) ('1' + enPassantSquare / 8));
+        }
+        return out.append(' ').append(board.getHalfmoveClock()).append(' ').append(board.getFullmoveNumber());
+    }
+
+    /**
+     * Appends the piece placement field of a FEN, reading each square from the mailbox once.
+     *
+     * @param bitboard The pieces to write.
+     * @param out      The builder to append to.
+     * @return The same builder.
+     */
+    public static StringBuilder writePlacement(Bitboard bitboard, StringBuilder out) {
+        for (int rank = 7; rank >= 0; rank--) {
+            int empty = 0;
+            for (int square = rank * 8; square < rank * 8 + 8; square++) {
+                int code = bitboard.pieceAt(square);
+                if (code == Piece.EMPTY) {
+                    empty++;
+                    continue;
+                }
+                if (empty != 0) {
+                    out.append((char) ('0' + empty));
+                    empty = 0;
+                }
+                out.append(Piece.toFENChar(code));
+            }
+            if (empty != 0) out.append((char) ('0' + empty));
+            if (rank > 0) out.append('/');
+        }
+        return out;
+    }
+
+    /**
+     * Returns the complete FEN of a board as a new string.
+     *
+     * @param board The board to write.
+     * @return The FEN string.
+     */
+    public static String toFEN(Board board) {
+        return write(board, new StringBuilder(90)).toString();
+    }
+}
@@ -0,0 +1,64 @@
+package chess.board;
+
+/**
+ * Reusable list of packed moves (see {@link PackedMove}) backed by a fixed {@code int[256]}, which is more
+ * than the maximum number of moves in any legal chess position. A search keeps one list per ply and clears
+ * it before generating, so no list or boxed Integer is allocated while searching.
+ */
+public final class MoveList {
+
+    public static final int CAPACITY = 256;
+
+    private final int[] moves = new int[CAPACITY];
+    private int size;
+
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    public void swap(int first, int second) {
+        int move = moves[first];
+        moves[first] = moves[second];
+        moves[second] = move;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Drops all moves from the given index on.
+     *
+     * @param size The number of moves to keep.
+     */
+    public void truncate(int size) {
+        this.size = Math.min(this.size, size);
+    }
+
+    /**
+     * @param move The packed move to look for.
+     * @return true if a move with the same from, to and promotion is in the list.
+     */
+    public boolean contains(int move) {
+        for (int i = 0; i < size; i++) {
+            if (PackedMove.sameMove(moves[i], move)) return true;
+        }
+        return false;
+    }
+}
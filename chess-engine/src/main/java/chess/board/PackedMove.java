@@ -0,0 +1,191 @@
+package chess.board;
+
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+
+/**
+ * Static helpers for moves packed into a single {@code int}, so moves can be generated, stored, compared and
+ * passed around without allocating objects.
+ * <pre>
+ *  bits  0-5   from square (0-63)
+ *  bits  6-11  to square (0-63)
+ *  bits 12-14  promotion piece type ordinal (0 when the move is not a promotion)
+ *  bits 15-17  move flag (NORMAL, DOUBLE_PAWN_PUSH, EN_PASSANT, CASTLING)
+ *  bits 18-21  moving piece code + 1 (0 when not recorded)
+ *  bits 22-24  captured piece type ordinal + 1 (0 when nothing is captured)
+ * </pre>
+ * The value {@link #NO_MOVE} (0) never describes a real move, since from and to are never equal.
+ * Two packed moves describe the same move when their {@link #from}, {@link #to} and {@link #promotion} match;
+ * the remaining fields only carry information the board already knows.
+ */
+public final class PackedMove {
+
+    public static final int NO_MOVE = 0;
+
+    public static final int NORMAL = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int EN_PASSANT = 2;
+    public static final int CASTLING = 3;
+
+    private static final int TO_SHIFT = 6;
+    private static final int PROMOTION_SHIFT = 12;
+    private static final int FLAG_SHIFT = 15;
+    private static final int PIECE_SHIFT = 18;
+    private static final int CAPTURED_SHIFT = 22;
+
+    // from, to and promotion, which identify a move on a given board
+    private static final int IDENTITY_MASK = (1 << FLAG_SHIFT) - 1;
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final String PROMOTION_CHARS = " nbrq";
+
+    private PackedMove() {
+    }
+
+    /**
+     * Packs a move into an int without piece information, which is enough for {@link Board#makeMove(int)}.
+     *
+     * @param fromSquare    The source square (0-63).
+     * @param toSquare      The destination square (0-63).
+     * @param promotionType The piece type a pawn promotes to, or null if the move is not a promotion.
+     * @param flag          One of NORMAL, DOUBLE_PAWN_PUSH, EN_PASSANT or CASTLING.
+     * @return The packed move.
+     */
+    public static int encode(int fromSquare, int toSquare, PieceType promotionType, int flag) {
+        int promotion = promotionType == null ? 0 : promotionType.ordinal();
+        return fromSquare | (toSquare << TO_SHIFT) | (promotion << PROMOTION_SHIFT) | (flag << FLAG_SHIFT);
+    }
+
+    /**
+     * Packs a move with the moving and captured piece, as done by the move generators.
+     *
+     * @param fromSquare         The source square (0-63).
+     * @param toSquare           The destination square (0-63).
+     * @param piece              The {@link Piece} code of the moving piece.
+     * @param capturedPiece      The {@link Piece} code of the captured piece, or {@link Piece#EMPTY}.
+     * @param promotionOrdinal   The {@link PieceType} ordinal a pawn promotes to, or 0 if the move is not a promotion.
+     * @param flag               One of NORMAL, DOUBLE_PAWN_PUSH, EN_PASSANT or CASTLING.
+     * @return The packed move.
+     */
+    public static int encode(int fromSquare, int toSquare, int piece, int capturedPiece, int promotionOrdinal, int flag) {
+        int captured = capturedPiece == Piece.EMPTY ? 0 : Piece.typeIndex(capturedPiece) + 1;
+        return fromSquare | (toSquare << TO_SHIFT) | (promotionOrdinal << PROMOTION_SHIFT) | (flag << FLAG_SHIFT)
+                | ((piece + 1) << PIECE_SHIFT) | (captured << CAPTURED_SHIFT);
+    }
+
+    public static int from(int move) {
+        return move & 0x3F;
+    }
+
+    public static int to(int move) {
+        return (move >>> TO_SHIFT) & 0x3F;
+    }
+
+    /**
+     * @return The piece type a pawn promotes to, or null if the move is not a promotion.
+     */
+    public static PieceType promotion(int move) {
+        int promotion = (move >>> PROMOTION_SHIFT) & 0x7;
+        return promotion == 0 ? null : PIECE_TYPES[promotion];
+    }
+
+    public static boolean isPromotion(int move) {
+        return ((move >>> PROMOTION_SHIFT) & 0x7) != 0;
+    }
+
+    public static int flag(int move) {
+        return (move >>> FLAG_SHIFT) & 0x7;
+    }
+
+    /**
+     * @return The {@link Piece} code of the moving piece, or {@link Piece#EMPTY} if it was not recorded.
+     */
+    public static int piece(int move) {
+        return ((move >>> PIECE_SHIFT) & 0xF) - 1;
+    }
+
+    /**
+     * @return The type of the captured piece, or null if the move is not a capture.
+     */
+    public static PieceType capturedType(int move) {
+        int captured = (move >>> CAPTURED_SHIFT) & 0x7;
+        return captured == 0 ? null : PIECE_TYPES[captured - 1];
+    }
+
+    public static boolean isCapture(int move) {
+        return ((move >>> CAPTURED_SHIFT) & 0x7) != 0;
+    }
+
+    /**
+     * @return true if both packed values describe the same from square, to square and promotion.
+     */
+    public static boolean sameMove(int first, int second) {
+        return (first & IDENTITY_MASK) == (second & IDENTITY_MASK);
+    }
+
+    /**
+     * Converts a packed move to the {@link Move} object used at the API edge.
+     * The move must have been packed with piece information.
+     *
+     * @param move The packed move.
+     * @return The move object.
+     */
+    public static Move toMove(int move) {
+        int piece = piece(move);
+        return new Move(from(move), to(move), Piece.typeOf(piece), capturedType(move), Piece.colorOf(piece));
+    }
+
+    /**
+     * Packs a {@link Move} from the API edge. {@link Move} carries no flags, so they are inferred from the
+     * board the move is about to be played on: a pawn moving two ranks is a double push, a king moving two
+     * files is castling, a pawn moving onto the en passant square is an en passant capture and a pawn reaching
+     * the last rank promotes to a queen.
+     *
+     * @param board The board the move is played on.
+     * @param move  The move object.
+     * @return The packed move.
+     */
+    public static int fromMove(Board board, Move move) {
+        int from = move.getFromSquare();
+        int to = move.getToSquare();
+        PieceType pieceType = move.getPieceType();
+        PieceColor pieceColor = move.getPieceColor();
+
+        int flag = NORMAL;
+        int promotion = 0;
+        int captured = board.pieceAt(to);
+        if (pieceType == PieceType.PAWN) {
+            if (Math.abs(to - from) == 16) {
+                flag = DOUBLE_PAWN_PUSH;
+            } else if (to == board.getEnPassantSquare() && (to - from) % 8 != 0) {
+                flag = EN_PASSANT;
+                captured = Piece.code(PieceType.PAWN, pieceColor.opposite());
+            } else if (to >= 56 || to < 8) {
+                promotion = PieceType.QUEEN.ordinal();
+            }
+        } else if (pieceType == PieceType.KING && Math.abs(to - from) == 2) {
+            flag = CASTLING;
+        }
+        return encode(from, to, Piece.code(pieceType, pieceColor), captured, promotion, flag);
+    }
+
+    /**
+     * Formats a move in UCI long algebraic notation, e.g. "e2e4" or "e7e8q".
+     *
+     * @param move The packed move.
+     * @return The move in UCI notation.
+     */
+    public static String toUci(int move) {
+        StringBuilder sb = new StringBuilder(5);
+        appendSquare(sb, from(move));
+        appendSquare(sb, to(move));
+        if (isPromotion(move)) {
+            sb.append(PROMOTION_CHARS.charAt((move >>> PROMOTION_SHIFT) & 0x7));
+        }
+        return sb.toString();
+    }
+
+    private static void appendSquare(StringBuilder sb, int square) {
+        sb.append((char) ('a' + (square & 7))).append((char) ('1' + (square >>> 3)));
+    }
+}
@@ -0,0 +1,97 @@
+package chess.board;
+
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+
+/**
+ * Compact piece codes used by the mailbox in {@link Bitboard}. A piece code packs type and color into a single
+ * number: {@code color * 6 + type}, so white pieces are 0-5 and black pieces are 6-11 in {@link PieceType} order.
+ * Empty squares hold {@link #EMPTY}.
+ */
+public final class Piece {
+
+    public static final byte EMPTY = -1;
+
+    public static final int WHITE_PAWN = 0;
+    public static final int WHITE_KNIGHT = 1;
+    public static final int WHITE_BISHOP = 2;
+    public static final int WHITE_ROOK = 3;
+    public static final int WHITE_QUEEN = 4;
+    public static final int WHITE_KING = 5;
+    public static final int BLACK_PAWN = 6;
+    public static final int BLACK_KNIGHT = 7;
+    public static final int BLACK_BISHOP = 8;
+    public static final int BLACK_ROOK = 9;
+    public static final int BLACK_QUEEN = 10;
+    public static final int BLACK_KING = 11;
+
+    private static final PieceType[] TYPES = new PieceType[12];
+    private static final PieceColor[] COLORS = new PieceColor[12];
+    private static final String FEN_CHARS = "PNBRQKpnbrqk";
+
+    static {
+        for (PieceColor color : PieceColor.values()) {
+            for (PieceType type : PieceType.values()) {
+                TYPES[code(type, color)] = type;
+                COLORS[code(type, color)] = color;
+            }
+        }
+    }
+
+    private Piece() {
+    }
+
+    /**
+     * Returns the piece code for the given type and color.
+     *
+     * @param pieceType  The type of the piece.
+     * @param pieceColor The color of the piece.
+     * @return The piece code (0-11).
+     */
+    public static int code(PieceType pieceType, PieceColor pieceColor) {
+        return pieceColor.ordinal() * 6 + pieceType.ordinal();
+    }
+
+    /**
+     * @param code A piece code (not {@link #EMPTY}).
+     * @return The {@link PieceType} ordinal of the piece.
+     */
+    public static int typeIndex(int code) {
+        return code >= 6 ? code - 6 : code;
+    }
+
+    /**
+     * @param code A piece code or {@link #EMPTY}.
+     * @return The type of the piece, or null for an empty square.
+     */
+    public static PieceType typeOf(int code) {
+        return code == EMPTY ? null : TYPES[code];
+    }
+
+    /**
+     * @param code A piece code or {@link #EMPTY}.
+     * @return The color of the piece, or null for an empty square.
+     */
+    public static PieceColor colorOf(int code) {
+        return code == EMPTY ? null : COLORS[code];
+    }
+
+    /**
+     * @param code A piece code or {@link #EMPTY}.
+     * @return The FEN character of the piece (uppercase for white), or ' ' for an empty square.
+     */
+    public static char toFENChar(int code) {
+        return code == EMPTY ? ' ' : FEN_CHARS.charAt(code);
+    }
+
+    /**
+     * @param c A FEN piece character (uppercase for white).
+     * @return The piece code of the character.
+     * @throws IllegalArgumentException if the character is not a FEN piece.
+     */
+    public static int fromFENChar(char c) {
+        int code = FEN_CHARS.indexOf(c);
+        if (code < 0) throw new IllegalArgumentException("Invalid FEN character: " + c);
+        return code;
+    }
+}
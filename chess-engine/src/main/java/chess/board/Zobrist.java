@@ -0,0 +1,76 @@
+package chess.board;
+
+/**
+ * Random keys for Zobrist hashing. A position key is the XOR of one key per piece on a square, the side to
+ * move key when black is to move, the key of the current castling rights and the key of the en passant file.
+ * Because XOR is its own inverse, every change to the position is folded in or out of the key with a single
+ * XOR, so the key is maintained incrementally while pieces are placed and removed.
+ * <p>
+ * The keys are generated from a fixed seed, so a key is stable between runs and can be stored or logged.
+ */
+public final class Zobrist {
+
+    // Indexed by piece code * 64 + square, see Piece
+    private static final long[] PIECE_SQUARE_KEYS = new long[12 * 64];
+    public static final long SIDE_TO_MOVE_KEY;
+    // Indexed by the 4 bit castling rights mask
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] EN_PASSANT_FILE_KEYS = new long[8];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < PIECE_SQUARE_KEYS.length; i++) {
+            seed = splitMix(seed);
+            PIECE_SQUARE_KEYS[i] = mix(seed);
+        }
+        seed = splitMix(seed);
+        SIDE_TO_MOVE_KEY = mix(seed);
+        for (int i = 0; i < CASTLING_KEYS.length; i++) {
+            seed = splitMix(seed);
+            CASTLING_KEYS[i] = mix(seed);
+        }
+        CASTLING_KEYS[0] = 0L; // No castling rights contributes nothing to the key
+        for (int i = 0; i < EN_PASSANT_FILE_KEYS.length; i++) {
+            seed = splitMix(seed);
+            EN_PASSANT_FILE_KEYS[i] = mix(seed);
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * @param pieceCode The {@link Piece} code of the piece.
+     * @param square    The square of the piece (0-63).
+     * @return The key of the piece standing on the square.
+     */
+    public static long pieceSquareKey(int pieceCode, int square) {
+        return PIECE_SQUARE_KEYS[(pieceCode << 6) | square];
+    }
+
+    /**
+     * @param castlingRights The 4 bit castling rights mask.
+     * @return The key of the castling rights.
+     */
+    public static long castlingKey(int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    /**
+     * @param enPassantSquare The en passant target square, or -1 if there is none.
+     * @return The key of the en passant file, or 0 if there is no en passant square.
+     */
+    public static long enPassantKey(int enPassantSquare) {
+        return enPassantSquare < 0 ? 0L : EN_PASSANT_FILE_KEYS[enPassantSquare & 7];
+    }
+
+    private static long splitMix(long seed) {
+        return seed + 0x9E3779B97F4A7C15L;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -13,6 +13,12 @@ public enum PieceType {
     QUEEN(1025, 936),
     KING(12000, 12000);
 
+    /**
+     * All piece types in declaration order. {@link #values()} clones its array on every call, so loops on the
+     * hot paths iterate this one instead. It must not be modified.
+     */
+    public static final PieceType[] VALUES = values();
+
     private final int midGameValue;
     private final int endGameValue;
 
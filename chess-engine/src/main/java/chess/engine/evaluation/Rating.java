@@ -1,126 +1,117 @@
 package chess.engine.evaluation;
 
 
+import chess.board.AttackMap;
+import chess.board.Bitboard;
 import chess.board.Board;
-import chess.board.Move;
-import chess.board.enums.GamePhase;
 import chess.board.enums.PieceColor;
-import chess.board.enums.PieceType;
+import chess.engine.evaluation.pawn_structure.PawnHashTable;
+import chess.engine.evaluation.pawn_structure.PawnStructureEvaluation;
+import chess.engine.evaluation.piece_activity.KingSafetyEvaluation;
+import chess.engine.evaluation.piece_activity.MobilityEvaluation;
 import chess.engine.evaluation.piece_board_evaluation.MaterialBoardEvaluation;
 import chess.engine.evaluation.piece_board_evaluation.PieceSquareEvaluation;
-import chess.engine.evaluation.piece_board_evaluation.piece_square_board_rating.*;
 
 public final class Rating {
-    private static int currentScore;
 
+    /**
+     * Evaluates a position from scratch, walking the piece bitboards. It computes the same score as
+     * {@link #evaluate(Board)} and serves as its reference in tests.
+     *
+     * @param board The position to evaluate.
+     * @return The score in centipawns from the side to move's point of view.
+     */
     public static int rating(Board board) {
-        currentScore = initialScore(board);  // Compute the initial full score at the start
-        return currentScore;
+        return PieceSquareEvaluation.evaluate(board);
     }
 
-    public static void updateScore(Board board, Move move) {
-        // Deduct score of the piece moved from its original position
-        currentScore -= getPieceSquareScore(board, move.getPieceType(), move.getFromSquare());
-
-        // Add score of the piece to its new position
-        currentScore += getPieceSquareScore(board, move.getPieceType(), move.getToSquare());
-
-        // Additional logic for captures, promotions, etc.
-        if (move.getCapturedPieceType() != null) {
-            currentScore -= move.getCapturedPieceType().getMidGameValue();
-        }
+    /**
+     * Rates the attacks on the kings: the king safety penalty of black minus the one of white, read from the
+     * king zone attacks of the board's attack map.
+     *
+     * @param board The position to evaluate.
+     * @return The tapered score in centipawns from the side to move's point of view.
+     */
+    public static int rateAttackingPosition(Board board) {
+        return toSideToMove(board, KingSafetyEvaluation.evaluate(board.getAttackMap()));
     }
 
-    private static int getPieceSquareScore(Board board, PieceType piece, int square) {
-        PieceColor pieceColor = board.getPieceColorAtSquare(square);
-        int[] pieceSquareTable = getTableForPiece(board, piece, pieceColor);
-        return pieceSquareTable[square];
+    /**
+     * Evaluates a position for the search. The score is relative to the side to move (negamax convention), so a
+     * positive score is good for the player about to move. The material and piece-square score and the game
+     * phase are kept up to date by the board's {@link Bitboard} on every move, so this only blends the midgame
+     * and endgame halves by the phase (tapered evaluation); no piece is looked at and no state is kept here.
+     *
+     * @param board The position to evaluate.
+     * @return The score in centipawns from the side to move's point of view.
+     */
+    public static int evaluate(Board board) {
+        Bitboard bitboard = board.getBitboard();
+        assert PieceSquareEvaluation.isConsistent(bitboard) : "Incremental evaluation out of date";
+        int whiteScore = MaterialBoardEvaluation.taper(bitboard.getPieceSquareScore(), bitboard.getGamePhase());
+        return board.getCurrentPlayer() == PieceColor.WHITE ? whiteScore : -whiteScore;
     }
 
-    private static int[] getTableForPiece(Board board, PieceType piece, PieceColor pieceColor) {
-        // Return the appropriate piece-square table
-        if (board.getGamePhase() == GamePhase.MID_GAME) {
-            return switch (piece) {
-                case PAWN -> pieceColor == PieceColor.WHITE
-                        ? PawnSquareBoardRating.WHITE_PAWN_MID_GAME_SQUARE_RATING
-                        : PawnSquareBoardRating.BLACK_PAWN_MID_GAME_SQUARE_RATING;
-                case KNIGHT -> pieceColor == PieceColor.WHITE
-                        ? KnightSquareBoardRating.WHITE_KNIGHT_MID_GAME_SQUARE_RATING
-                        : KnightSquareBoardRating.BLACK_KNIGHT_MID_GAME_SQUARE_RATING;
-                case BISHOP -> pieceColor == PieceColor.WHITE
-                        ? BishopSquareBoardRating.WHITE_BISHOP_MID_GAME_SQUARE_RATING
-                        : BishopSquareBoardRating.BLACK_BISHOP_MID_GAME_SQUARE_RATING;
-                case ROOK -> pieceColor == PieceColor.WHITE
-                        ? RookSquareBoardRating.WHITE_ROOK_MID_GAME_SQUARE_RATING
-                        : RookSquareBoardRating.BLACK_ROOK_MID_GAME_SQUARE_RATING;
-                case QUEEN -> pieceColor == PieceColor.WHITE
-                        ? QueenSquareBoardRating.WHITE_QUEEN_MID_GAME_SQUARE_RATING
-                        : QueenSquareBoardRating.BLACK_QUEEN_MID_GAME_SQUARE_RATING;
-                case KING -> pieceColor == PieceColor.WHITE
-                        ? KingSquareBoardRating.WHITE_KING_MID_GAME_SQUARE_RATING
-                        : KingSquareBoardRating.BLACK_KING_MID_GAME_SQUARE_RATING;
-            };
-        }
-
-        return switch (piece) {
-            case PAWN -> pieceColor == PieceColor.WHITE
-                    ? PawnSquareBoardRating.WHITE_PAWN_END_GAME_SQUARE_RATING
-                    : PawnSquareBoardRating.BLACK_PAWN_END_GAME_SQUARE_RATING;
-            case KNIGHT -> pieceColor == PieceColor.WHITE
-                    ? KnightSquareBoardRating.WHITE_KNIGHT_END_GAME_SQUARE_RATING
-                    : KnightSquareBoardRating.BLACK_KNIGHT_END_GAME_SQUARE_RATING;
-            case BISHOP -> pieceColor == PieceColor.WHITE
-                    ? BishopSquareBoardRating.WHITE_BISHOP_END_GAME_SQUARE_RATING
-                    : BishopSquareBoardRating.BLACK_BISHOP_END_GAME_SQUARE_RATING;
-            case ROOK -> pieceColor == PieceColor.WHITE
-                    ? RookSquareBoardRating.WHITE_ROOK_END_GAME_SQUARE_RATING
-                    : RookSquareBoardRating.BLACK_ROOK_END_GAME_SQUARE_RATING;
-            case QUEEN -> pieceColor == PieceColor.WHITE
-                    ? QueenSquareBoardRating.WHITE_QUEEN_END_GAME_SQUARE_RATING
-                    : QueenSquareBoardRating.BLACK_QUEEN_END_GAME_SQUARE_RATING;
-            case KING -> pieceColor == PieceColor.WHITE
-                    ? KingSquareBoardRating.WHITE_KING_END_GAME_SQUARE_RATING
-                    : KingSquareBoardRating.BLACK_KING_END_GAME_SQUARE_RATING;
-        };
+    /**
+     * Evaluates a position for the search like {@link #evaluate(Board)}, adding the pawn structure, the pawn
+     * shields of the kings, the mobility and the king safety. The pawn structure is looked up in the pawn hash
+     * table of the searching thread. Mobility and king safety are counted by the board's {@link AttackMap},
+     * which the search has already built to test for check, so they cost a few multiplications.
+     *
+     * @param board     The position to evaluate.
+     * @param pawnTable The pawn hash table of the calling thread.
+     * @return The score in centipawns from the side to move's point of view.
+     */
+    public static int evaluate(Board board, PawnHashTable pawnTable) {
+        Bitboard bitboard = board.getBitboard();
+        assert PieceSquareEvaluation.isConsistent(bitboard) : "Incremental evaluation out of date";
+        AttackMap attackMap = board.getAttackMap();
+        int score = bitboard.getPieceSquareScore()
+                + pawnTable.probe(bitboard)
+                + PawnStructureEvaluation.kingShield(bitboard)
+                + MobilityEvaluation.evaluate(attackMap, bitboard)
+                + KingSafetyEvaluation.evaluate(attackMap);
+        return toSideToMove(board, score);
     }
 
-    public static int rateAttackingPosition() {
-        return 0;
+    /**
+     * Tapers a packed score from white's point of view and turns it to the side to move's.
+     */
+    private static int toSideToMove(Board board, int score) {
+        int whiteScore = MaterialBoardEvaluation.taper(score, board.getBitboard().getGamePhase());
+        return board.getCurrentPlayer() == PieceColor.WHITE ? whiteScore : -whiteScore;
     }
 
+    /**
+     * Rates the material alone, the piece values without the squares. Together with
+     * {@link #rateGeneralBoardPosition(Board)} it makes up {@link #rating(Board)}, up to rounding.
+     *
+     * @param board The position to evaluate.
+     * @return The tapered score in centipawns from the side to move's point of view.
+     */
     public static int rateMaterialPosition(Board board) {
         return MaterialBoardEvaluation.eval(board);
     }
 
-    public static int rateMoveAbilityPosition() {
-        return 0;
+    /**
+     * Rates the mobility of the knights, bishops, rooks and queens of both sides, read from the safe squares
+     * counted by the board's attack map.
+     *
+     * @param board The position to evaluate.
+     * @return The tapered score in centipawns from the side to move's point of view.
+     */
+    public static int rateMoveAbilityPosition(Board board) {
+        return toSideToMove(board, MobilityEvaluation.evaluate(board.getAttackMap(), board.getBitboard()));
     }
 
+    /**
+     * Rates where the pieces stand, the piece-square values without the material of
+     * {@link #rateMaterialPosition(Board)}.
+     *
+     * @param board The position to evaluate.
+     * @return The tapered score in centipawns from the side to move's point of view.
+     */
     public static int rateGeneralBoardPosition(Board board) {
-        int whiteScore = 0;
-        int blackScore = 0;
-        // White pieces score
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, PawnSquareBoardRating.WHITE_PAWN_MID_GAME_SQUARE_RATING, PieceType.PAWN);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, KnightSquareBoardRating.WHITE_KNIGHT_MID_GAME_SQUARE_RATING, PieceType.KNIGHT);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, BishopSquareBoardRating.WHITE_BISHOP_MID_GAME_SQUARE_RATING, PieceType.BISHOP);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, RookSquareBoardRating.WHITE_ROOK_MID_GAME_SQUARE_RATING, PieceType.ROOK);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, QueenSquareBoardRating.WHITE_QUEEN_MID_GAME_SQUARE_RATING, PieceType.QUEEN);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, KingSquareBoardRating.WHITE_KING_MID_GAME_SQUARE_RATING, PieceType.KING);
-
-        // Black pieces score
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, PawnSquareBoardRating.BLACK_PAWN_MID_GAME_SQUARE_RATING, PieceType.PAWN);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, KnightSquareBoardRating.BLACK_KNIGHT_MID_GAME_SQUARE_RATING, PieceType.KNIGHT);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, BishopSquareBoardRating.BLACK_BISHOP_MID_GAME_SQUARE_RATING, PieceType.BISHOP);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, RookSquareBoardRating.BLACK_ROOK_MID_GAME_SQUARE_RATING, PieceType.ROOK);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, QueenSquareBoardRating.BLACK_QUEEN_MID_GAME_SQUARE_RATING, PieceType.QUEEN);
-        whiteScore += PieceSquareEvaluation.evaluatePiecePosition(board, KingSquareBoardRating.BLACK_KING_MID_GAME_SQUARE_RATING, PieceType.KING);
-
-        return whiteScore + blackScore;
-    }
-
-
-    private static int initialScore(Board board) {
-        // Full evaluation logic here
-        return rateMaterialPosition(board) + rateGeneralBoardPosition(board);
+        return PieceSquareEvaluation.evaluatePlacement(board);
     }
 }
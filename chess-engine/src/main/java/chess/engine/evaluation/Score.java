@@ -0,0 +1,25 @@
+package chess.engine.evaluation;
+
+/**
+ * A midgame and an endgame score packed into one int, the endgame half in the upper 16 bits. Packed scores add,
+ * subtract and negate as a whole, so both halves of an evaluation are accumulated with one integer operation.
+ * Each half has to stay within the range of a short.
+ */
+public final class Score {
+
+    private Score() {
+    }
+
+    public static int of(int midGame, int endGame) {
+        return (endGame << 16) + midGame;
+    }
+
+    public static int midGame(int score) {
+        return (short) score;
+    }
+
+    public static int endGame(int score) {
+        // A negative midgame half borrowed one from the endgame half
+        return (short) ((score + 0x8000) >> 16);
+    }
+}
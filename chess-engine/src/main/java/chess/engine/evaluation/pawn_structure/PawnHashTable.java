@@ -0,0 +1,70 @@
+package chess.engine.evaluation.pawn_structure;
+
+import chess.board.Bitboard;
+
+/**
+ * Cache of the {@link PawnStructureEvaluation} keyed by the Zobrist key of the pawns
+ * ({@link Bitboard#getPawnKey()}). The pawns change in few of the moves of a search, so nearly every lookup is a
+ * hit and the pawn structure costs about as much as the array load.
+ * <p>
+ * The table is direct mapped, a new pawn structure replaces the one in its slot. It is not thread safe: every
+ * search thread owns its own table, so no locks are taken. An empty slot holds key 0 and score 0, which is the
+ * correct entry for a position without pawns.
+ */
+public final class PawnHashTable {
+
+    private static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final long[] keys;
+    private final int[] scores;
+    private final int mask;
+    private long probes;
+    private long hits;
+
+    /**
+     * Creates a table using at most the given number of kilobytes, rounded down to a power of two entries.
+     *
+     * @param sizeKb The size of the table in kilobytes.
+     */
+    public PawnHashTable(int sizeKb) {
+        int entries = Integer.highestOneBit(Math.max(1, sizeKb * 1024 / ENTRY_BYTES));
+        keys = new long[entries];
+        scores = new int[entries];
+        mask = entries - 1;
+    }
+
+    /**
+     * Looks up the pawn structure of a position, evaluating and storing it on a miss.
+     *
+     * @param bitboard The pieces of the position.
+     * @return The packed score of the pawn structure from white's point of view.
+     */
+    public int probe(Bitboard bitboard) {
+        long key = bitboard.getPawnKey();
+        int index = (int) key & mask;
+        probes++;
+        if (keys[index] == key) {
+            hits++;
+            return scores[index];
+        }
+        int score = PawnStructureEvaluation.evaluate(bitboard.getWhitePawns(), bitboard.getBlackPawns());
+        keys[index] = key;
+        scores[index] = score;
+        return score;
+    }
+
+    public long getProbes() {
+        return probes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of entries the table holds.
+     */
+    public int capacity() {
+        return keys.length;
+    }
+}
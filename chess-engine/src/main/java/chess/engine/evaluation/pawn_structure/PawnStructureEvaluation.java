@@ -0,0 +1,92 @@
+package chess.engine.evaluation.pawn_structure;
+
+import chess.board.Bitboard;
+import chess.engine.evaluation.Score;
+
+import static chess.engine.pre_computations.PreComputationHandler.*;
+
+/**
+ * Pawn structure terms of the evaluation, as packed {@link Score}s from white's point of view. The pawns of each
+ * side are classified set-wise with file and rank fills:
+ * <ul>
+ *     <li>doubled: an own pawn stands behind it on its file,</li>
+ *     <li>isolated: no own pawn stands on an adjacent file,</li>
+ *     <li>backward: no own pawn on an adjacent file is level with or behind it to defend its stop square, and
+ *     an enemy pawn attacks the stop square,</li>
+ *     <li>passed: no enemy pawn stands in front of it on its own or an adjacent file, and no own pawn in front
+ *     of it on its file. The bonus grows with the rank.</li>
+ * </ul>
+ * These only depend on the pawns and are cached in the {@link PawnHashTable}. The pawn shield of the kings also
+ * depends on the king squares, so it is computed for every position with two lookups.
+ */
+public final class PawnStructureEvaluation {
+
+    static final int DOUBLED = Score.of(-10, -25);
+    static final int ISOLATED = Score.of(-8, -12);
+    static final int BACKWARD = Score.of(-8, -10);
+
+    // Indexed by the rank of the pawn as seen from its own side
+    static final int[] PASSED = {
+            Score.of(0, 0), Score.of(2, 8), Score.of(5, 12), Score.of(8, 20),
+            Score.of(20, 40), Score.of(45, 80), Score.of(75, 120), Score.of(0, 0),
+    };
+
+    // Every pawn of the shield, and once more for a pawn right in front of the king
+    static final int SHIELD = Score.of(8, 0);
+    static final int SHIELD_NEAR = Score.of(8, 0);
+
+    private PawnStructureEvaluation() {
+    }
+
+    /**
+     * @param whitePawns The white pawns.
+     * @param blackPawns The black pawns.
+     * @return The packed score of the pawn structure, from white's point of view.
+     */
+    public static int evaluate(long whitePawns, long blackPawns) {
+        return evaluateSide(whitePawns, blackPawns, true) - evaluateSide(blackPawns, whitePawns, false);
+    }
+
+    /**
+     * @return The packed score of the pawn shields of both kings, from white's point of view.
+     */
+    public static int kingShield(Bitboard bitboard) {
+        return shield(bitboard.getWhiteKing(), bitboard.getWhitePawns(), WHITE_PAWN_SHIELDS)
+                - shield(bitboard.getBlackKing(), bitboard.getBlackPawns(), BLACK_PAWN_SHIELDS);
+    }
+
+    private static int evaluateSide(long own, long enemy, boolean white) {
+        long behind = white ? northFill(own) << 8 : southFill(own) >>> 8;
+        long isolated = own & ~adjacentFiles(fileFill(own));
+
+        long attackSpans = white ? northFill(whitePawnAttacks(own)) : southFill(blackPawnAttacks(own));
+        long enemyAttacks = white ? blackPawnAttacks(enemy) : whitePawnAttacks(enemy);
+        long stops = (white ? own << 8 : own >>> 8) & enemyAttacks & ~attackSpans;
+        long backward = (white ? stops >>> 8 : stops << 8) & ~isolated;
+
+        int score = DOUBLED * Long.bitCount(own & behind)
+                + ISOLATED * Long.bitCount(isolated)
+                + BACKWARD * Long.bitCount(backward);
+
+        long[] passedMasks = white ? WHITE_PASSED_PAWN_MASKS : BLACK_PASSED_PAWN_MASKS;
+        long[] forwardSpans = white ? WHITE_FORWARD_SPANS : BLACK_FORWARD_SPANS;
+        for (long pawns = own; pawns != 0; pawns &= pawns - 1) {
+            int square = Long.numberOfTrailingZeros(pawns);
+            if ((passedMasks[square] & enemy) == 0 && (forwardSpans[square] & own) == 0) {
+                score += PASSED[white ? square >>> 3 : 7 - (square >>> 3)];
+            }
+        }
+        return score;
+    }
+
+    private static int shield(long king, long pawns, long[] shields) {
+        if (king == 0) return 0;
+        int square = Long.numberOfTrailingZeros(king);
+        long shieldPawns = shields[square] & pawns;
+        return SHIELD * Long.bitCount(shieldPawns) + SHIELD_NEAR * Long.bitCount(shieldPawns & KING_ATTACKS[square]);
+    }
+
+    private static long adjacentFiles(long files) {
+        return ((files & ~FILE_A) >>> 1) | ((files & ~FILE_H) << 1);
+    }
+}
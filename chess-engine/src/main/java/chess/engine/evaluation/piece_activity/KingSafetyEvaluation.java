@@ -0,0 +1,62 @@
+package chess.engine.evaluation.piece_activity;
+
+import chess.board.AttackMap;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import chess.engine.evaluation.Score;
+
+/**
+ * King safety term of the evaluation, as a packed {@link Score} from white's point of view. Every attack of a
+ * knight, bishop, rook or queen on the zone around the enemy king ({@link AttackMap#kingZoneAttacks}) adds
+ * attack units by the type of the attacker. The units are turned into a penalty for the attacked side by a
+ * table that grows slowly at first and steeply later, as a king withstands a single attacker but rarely a
+ * coordinated attack; with fewer than two attackers there is no penalty at all. The penalty is a midgame
+ * score, so it fades out as the pieces come off the board.
+ * <p>
+ * Source: <a href="https://www.chessprogramming.org/King_Safety">chessprogramming.org</a>
+ */
+public final class KingSafetyEvaluation {
+
+    // Attack units per attacked king zone square, indexed by PieceType ordinal
+    static final int[] ATTACK_UNITS = {0, 2, 2, 3, 5, 0};
+    static final int MIN_ATTACKERS = 2;
+
+    // Penalty in centipawns by attack units
+    static final int[] SAFETY_TABLE = {
+              0,   0,   1,   2,   3,   5,   7,   9,  12,  15,
+             18,  22,  26,  30,  35,  39,  44,  50,  56,  62,
+             68,  75,  82,  85,  89,  97, 105, 113, 122, 131,
+            140, 150, 169, 180, 191, 202, 213, 225, 237, 248,
+            260, 272, 283, 295, 307, 319, 330, 342, 354, 366,
+            377, 389, 401, 412, 424, 436, 448, 459, 471, 483,
+            494, 500, 500, 500, 500, 500, 500, 500, 500, 500,
+            500, 500, 500, 500, 500, 500, 500, 500, 500, 500,
+            500, 500, 500, 500, 500, 500, 500, 500, 500, 500,
+            500, 500, 500, 500, 500, 500, 500, 500, 500, 500,
+    };
+
+    private static final PieceType[] PIECES = {PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN};
+
+    private KingSafetyEvaluation() {
+    }
+
+    /**
+     * @param attackMap The attack map of the position.
+     * @return The packed king safety score, from white's point of view.
+     */
+    public static int evaluate(AttackMap attackMap) {
+        return Score.of(danger(attackMap, PieceColor.WHITE) - danger(attackMap, PieceColor.BLACK), 0);
+    }
+
+    /**
+     * @return The penalty of the enemy king for the attacks of the given side.
+     */
+    private static int danger(AttackMap attackMap, PieceColor attacker) {
+        if (attackMap.kingAttackers(attacker) < MIN_ATTACKERS) return 0;
+        int units = 0;
+        for (PieceType pieceType : PIECES) {
+            units += ATTACK_UNITS[pieceType.ordinal()] * attackMap.kingZoneAttacks(pieceType, attacker);
+        }
+        return SAFETY_TABLE[Math.min(units, SAFETY_TABLE.length - 1)];
+    }
+}
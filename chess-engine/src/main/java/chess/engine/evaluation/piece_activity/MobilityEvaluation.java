@@ -0,0 +1,46 @@
+package chess.engine.evaluation.piece_activity;
+
+import chess.board.AttackMap;
+import chess.board.Bitboard;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import chess.engine.evaluation.Score;
+
+/**
+ * Mobility term of the evaluation, as a packed {@link Score} from white's point of view. Every knight, bishop,
+ * rook and queen earns a tapered weight per safe square it attacks ({@link AttackMap#mobility}) beyond a
+ * baseline of squares a piece of its type usually reaches, and loses it per square short of the baseline. The
+ * safe squares are counted while the {@link AttackMap} is built, this only weighs them.
+ */
+public final class MobilityEvaluation {
+
+    // Indexed by PieceType ordinal, 0 for pawns and kings
+    static final int[] WEIGHTS = {
+            Score.of(0, 0), Score.of(4, 4), Score.of(5, 5), Score.of(2, 4), Score.of(1, 2), Score.of(0, 0),
+    };
+    static final int[] BASELINES = {0, 4, 6, 6, 12, 0};
+
+    private static final PieceType[] PIECES = {PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN};
+
+    private MobilityEvaluation() {
+    }
+
+    /**
+     * @param attackMap The attack map of the position.
+     * @param bitboard  The pieces of the position.
+     * @return The packed mobility score, from white's point of view.
+     */
+    public static int evaluate(AttackMap attackMap, Bitboard bitboard) {
+        return evaluateSide(attackMap, bitboard, PieceColor.WHITE) - evaluateSide(attackMap, bitboard, PieceColor.BLACK);
+    }
+
+    private static int evaluateSide(AttackMap attackMap, Bitboard bitboard, PieceColor color) {
+        int score = 0;
+        for (PieceType pieceType : PIECES) {
+            int type = pieceType.ordinal();
+            int pieces = Long.bitCount(bitboard.getBitboardForPieceTypeAndColor(pieceType, color));
+            score += WEIGHTS[type] * (attackMap.mobility(pieceType, color) - BASELINES[type] * pieces);
+        }
+        return score;
+    }
+}
@@ -1,42 +1,65 @@
 package chess.engine.evaluation.piece_board_evaluation;
 
 
+import chess.board.Bitboard;
 import chess.board.Board;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
+import chess.engine.evaluation.Score;
 
 /**
+ * Tapered material evaluation computed from scratch: the {@link PieceType} values of the pieces on the board,
+ * without their squares, blended from the midgame to the endgame value by the game phase. The piece-square
+ * score of the {@link PieceSquareEvaluation} includes the material as well.
+ * <p>
  * Source: <a href="https://www.talkchess.com/forum3/viewtopic.php?f=2&t=68311&start=19">talkchess</a>
  */
 public final class MaterialBoardEvaluation {
 
+    // Packed midgame and endgame value by piece type, the kings carry no material as both sides always have one
+    private static final int[] MATERIAL = new int[6];
+
+    static {
+        for (PieceType pieceType : PieceType.VALUES) {
+            MATERIAL[pieceType.ordinal()] = pieceType == PieceType.KING ? 0
+                    : Score.of(pieceType.getMidGameValue(), pieceType.getEndGameValue());
+        }
+    }
+
+    /**
+     * @param board The position to evaluate.
+     * @return The tapered material score in centipawns from the side to move's point of view.
+     */
     public static int eval(Board board) {
-        // Initialize arrays to store midgame and endgame scores for each side
-        int[] midGameScore = new int[2];
-        int[] endGameScore = new int[2];
-        int gamePhase = 0;
-
-        // Evaluate each piece on the board
-        for (int square = 0; square < 64; ++square) {
-            PieceType pieceType = board.getPieceTypeAtSquare(square);
-            if (pieceType != null) {
-                PieceColor pieceColor = board.getPieceColorAtSquare(square);
-                if (pieceColor == PieceColor.WHITE) {
-                    midGameScore[PieceColor.WHITE.ordinal()] += PieceSquareTables.getMidgameValue(pieceType, pieceColor, square);
-                    endGameScore[PieceColor.WHITE.ordinal()] += PieceSquareTables.getEndgameValue(pieceType, pieceColor, square);
-                } else {
-                    midGameScore[PieceColor.BLACK.ordinal()] += PieceSquareTables.getMidgameValue(pieceType, pieceColor, square);
-                    endGameScore[PieceColor.BLACK.ordinal()] += PieceSquareTables.getEndgameValue(pieceType, pieceColor, square);
-                }
-                gamePhase += PieceSquareTables.getGamePhaseInc(pieceType);
-            }
+        Bitboard bitboard = board.getBitboard();
+        int whiteScore = taper(materialScore(bitboard), PieceSquareEvaluation.gamePhase(bitboard));
+        return board.getCurrentPlayer() == PieceColor.WHITE ? whiteScore : -whiteScore;
+    }
+
+    /**
+     * @return The packed {@link Score} of the material of both sides, from white's point of view.
+     */
+    public static int materialScore(Bitboard bitboard) {
+        int score = 0;
+        for (PieceType pieceType : PieceType.VALUES) {
+            int count = Long.bitCount(bitboard.getBitboardForPieceTypeAndColor(pieceType, PieceColor.WHITE))
+                    - Long.bitCount(bitboard.getBitboardForPieceTypeAndColor(pieceType, PieceColor.BLACK));
+            score += MATERIAL[pieceType.ordinal()] * count;
         }
+        return score;
+    }
 
-        // Calculate the tapered evaluation based on the game phase
-        int midGameScoreDifference = midGameScore[board.getCurrentPlayer().ordinal()] - midGameScore[board.getCurrentPlayer().opposite().ordinal()];
-        int endGameScoreDifference = endGameScore[board.getCurrentPlayer().ordinal()] - endGameScore[board.getCurrentPlayer().opposite().ordinal()];
-        int midGamePhase = Math.min(gamePhase, 24); // In case of early promotion
-        int endGamePhase = 24 - midGamePhase;
-        return (midGameScoreDifference * midGamePhase + endGameScoreDifference * endGamePhase) / 24;
+    /**
+     * Blends the halves of a packed score, from the full midgame score with all pieces on the board to the full
+     * endgame score with only pawns and kings left.
+     *
+     * @param score     The packed {@link Score}.
+     * @param gamePhase The sum of the game phase weights of the pieces on the board.
+     * @return The tapered score.
+     */
+    public static int taper(int score, int gamePhase) {
+        int midGamePhase = Math.min(gamePhase, PieceSquareTables.MAX_GAME_PHASE); // In case of early promotion
+        int endGamePhase = PieceSquareTables.MAX_GAME_PHASE - midGamePhase;
+        return (Score.midGame(score) * midGamePhase + Score.endGame(score) * endGamePhase) / PieceSquareTables.MAX_GAME_PHASE;
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,90 @@
 package chess.engine.evaluation.piece_board_evaluation;
 
 
+import chess.board.Bitboard;
 import chess.board.Board;
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
-import chess.board.enums.PieceType;
 
-public class PieceSquareEvaluation {
+/**
+ * Material and piece-square evaluation computed from scratch by walking the piece bitboards: the lowest set bit
+ * of a bitboard is the square of a piece ({@link Long#numberOfTrailingZeros(long)}) and clearing it
+ * ({@code pieces &= pieces - 1}) moves on to the next one, so only occupied squares are visited. It computes what
+ * the {@link Bitboard} keeps incrementally and checks it when assertions are enabled.
+ */
+public final class PieceSquareEvaluation {
 
-    public static int evaluatePiecePosition(Board board, int[] pieceSquareTable, PieceType pieceType) {
+    private PieceSquareEvaluation() {
+    }
+
+    /**
+     * @param board The position to evaluate.
+     * @return The tapered score in centipawns from the side to move's point of view.
+     */
+    public static int evaluate(Board board) {
+        Bitboard bitboard = board.getBitboard();
+        int whiteScore = MaterialBoardEvaluation.taper(pieceSquareScore(bitboard), gamePhase(bitboard));
+        return board.getCurrentPlayer() == PieceColor.WHITE ? whiteScore : -whiteScore;
+    }
+
+    /**
+     * Evaluates where the pieces stand: the piece-square score without the material of the
+     * {@link MaterialBoardEvaluation}.
+     *
+     * @param board The position to evaluate.
+     * @return The tapered score in centipawns from the side to move's point of view.
+     */
+    public static int evaluatePlacement(Board board) {
+        Bitboard bitboard = board.getBitboard();
+        int placement = pieceSquareScore(bitboard) - MaterialBoardEvaluation.materialScore(bitboard);
+        int whiteScore = MaterialBoardEvaluation.taper(placement, gamePhase(bitboard));
+        return board.getCurrentPlayer() == PieceColor.WHITE ? whiteScore : -whiteScore;
+    }
+
+    /**
+     * @return The packed {@link chess.engine.evaluation.Score} of all pieces, from white's point of view.
+     */
+    public static int pieceSquareScore(Bitboard bitboard) {
+        int score = 0;
+        for (int code = 0; code < 12; code++) {
+            score += evaluatePiecePosition(bitboard, code);
+        }
+        return score;
+    }
+
+    /**
+     * @param bitboard The pieces on the board.
+     * @param code     The {@link Piece} code of the pieces to evaluate.
+     * @return The packed {@link chess.engine.evaluation.Score} of the pieces of one code, from white's point of
+     * view.
+     */
+    public static int evaluatePiecePosition(Bitboard bitboard, int code) {
         int score = 0;
-        for (int square = 0; square < 64; ++square) {
-            if (board.getPieceTypeAtSquare(square) == pieceType) {
-                PieceColor color = board.getPieceColorAtSquare(square);
-                int index = (color == PieceColor.WHITE) ? square : 63 - square; // Flip index for black
-                score += pieceSquareTable[index];
-            }
+        for (long pieces = bitboard.getBitboard(code); pieces != 0; pieces &= pieces - 1) {
+            score += PieceSquareTables.score(code, Long.numberOfTrailingZeros(pieces));
         }
         return score;
     }
+
+    /**
+     * @return The sum of the game phase weights of the pieces on the board.
+     */
+    public static int gamePhase(Bitboard bitboard) {
+        int gamePhase = 0;
+        for (int code = 0; code < 12; code++) {
+            gamePhase += Long.bitCount(bitboard.getBitboard(code)) * PieceSquareTables.getGamePhaseInc(Piece.typeOf(code));
+        }
+        return gamePhase;
+    }
+
+    /**
+     * Compares the incremental score and game phase of the bitboard to the ones computed from scratch, meant for
+     * {@code assert} statements.
+     *
+     * @return {@code true} when they are the same.
+     */
+    public static boolean isConsistent(Bitboard bitboard) {
+        return bitboard.getPieceSquareScore() == pieceSquareScore(bitboard)
+                && bitboard.getGamePhase() == gamePhase(bitboard);
+    }
 }
@@ -1,29 +1,101 @@
 package chess.engine.evaluation.piece_board_evaluation;
 
 
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
+import chess.engine.evaluation.Score;
+import chess.engine.evaluation.piece_board_evaluation.piece_square_board_rating.*;
 
+/**
+ * The material and piece-square values of all pieces in one flat table of packed {@link Score}s, with one entry
+ * per piece code and square, built when the class is loaded. It is filled from the white tables of the
+ * {@code *SquareBoardRating} classes plus the {@link PieceType} values. The black entries are the white ones
+ * of the square mirrored across the middle of the board ({@code square ^ 56}), negated. The whole table is
+ * 3 KB, and looking up a piece costs one array load.
+ * <p>
+ * Source: <a href="https://www.talkchess.com/forum3/viewtopic.php?f=2&t=68311&start=19">talkchess</a>
+ */
 public final class PieceSquareTables {
 
-    // Midgame and endgame piece-square tables for each piece type and color
-    // ...
+    // The game phase of the full set of pieces, the weights of all pieces but pawns and kings added up
+    public static final int MAX_GAME_PHASE = 24;
 
+    private static final int[] GAME_PHASE_INC = {0, 1, 1, 2, 4, 0};
+
+    // White's tables in PieceType order, indexed by square with A1 = 0
+    private static final int[][] MID_GAME_TABLES = {
+            PawnSquareBoardRating.WHITE_PAWN_MID_GAME_SQUARE_RATING,
+            KnightSquareBoardRating.WHITE_KNIGHT_MID_GAME_SQUARE_RATING,
+            BishopSquareBoardRating.WHITE_BISHOP_MID_GAME_SQUARE_RATING,
+            RookSquareBoardRating.WHITE_ROOK_MID_GAME_SQUARE_RATING,
+            QueenSquareBoardRating.WHITE_QUEEN_MID_GAME_SQUARE_RATING,
+            KingSquareBoardRating.WHITE_KING_MID_GAME_SQUARE_RATING,
+    };
+    private static final int[][] END_GAME_TABLES = {
+            PawnSquareBoardRating.WHITE_PAWN_END_GAME_SQUARE_RATING,
+            KnightSquareBoardRating.WHITE_KNIGHT_END_GAME_SQUARE_RATING,
+            BishopSquareBoardRating.WHITE_BISHOP_END_GAME_SQUARE_RATING,
+            RookSquareBoardRating.WHITE_ROOK_END_GAME_SQUARE_RATING,
+            QueenSquareBoardRating.WHITE_QUEEN_END_GAME_SQUARE_RATING,
+            KingSquareBoardRating.WHITE_KING_END_GAME_SQUARE_RATING,
+    };
+
+    // Packed midgame and endgame score of a piece on a square by piece code * 64 + square, from white's point of
+    // view: the scores of black pieces are negated. The kings carry no material as both sides always have one.
+    private static final int[] SCORES = new int[12 * 64];
+
+    static {
+        for (int code = 0; code < 12; code++) {
+            PieceType pieceType = Piece.typeOf(code);
+            PieceColor pieceColor = Piece.colorOf(code);
+            int type = pieceType.ordinal();
+            int midGameMaterial = pieceType == PieceType.KING ? 0 : pieceType.getMidGameValue();
+            int endGameMaterial = pieceType == PieceType.KING ? 0 : pieceType.getEndGameValue();
+            for (int square = 0; square < 64; square++) {
+                int whiteSquare = pieceColor == PieceColor.WHITE ? square : square ^ 56;
+                int score = Score.of(midGameMaterial + MID_GAME_TABLES[type][whiteSquare],
+                        endGameMaterial + END_GAME_TABLES[type][whiteSquare]);
+                SCORES[code * 64 + square] = pieceColor == PieceColor.WHITE ? score : -score;
+            }
+        }
+    }
+
+    /**
+     * Returns the packed score of a piece on a square with a single array load, for the incremental evaluation
+     * kept by the {@link chess.board.Bitboard}.
+     *
+     * @param code   The {@link Piece} code of the piece.
+     * @param square The index of the square (0-63).
+     * @return The {@link Score} of the piece, positive for white and negative for black.
+     */
+    public static int score(int code, int square) {
+        return SCORES[(code << 6) | square];
+    }
+
+    /**
+     * @return The midgame material and piece-square value of a piece on a square, from its own side's point of
+     * view.
+     */
     public static int getMidgameValue(PieceType pieceType, PieceColor pieceColor, int square) {
-        // Return the midgame value for the given piece type, color, and square
-        // ...
-        return 0;
+        int score = score(Piece.code(pieceType, pieceColor), square);
+        return Score.midGame(pieceColor == PieceColor.WHITE ? score : -score);
     }
 
+    /**
+     * @return The endgame material and piece-square value of a piece on a square, from its own side's point of
+     * view.
+     */
     public static int getEndgameValue(PieceType pieceType, PieceColor pieceColor, int square) {
-        // Return the endgame value for the given piece type, color, and square
-        // ...
-        return 0;
+        int score = score(Piece.code(pieceType, pieceColor), square);
+        return Score.endGame(pieceColor == PieceColor.WHITE ? score : -score);
     }
 
+    /**
+     * @return The weight of a piece in the game phase: 1 for a minor piece, 2 for a rook, 4 for a queen and 0
+     * for pawns and kings.
+     */
     public static int getGamePhaseInc(PieceType pieceType) {
-        // Return the game phase increment value for the given piece type
-        // ...
-        return 0;
+        return GAME_PHASE_INC[pieceType.ordinal()];
     }
-}
\ No newline at end of file
+}
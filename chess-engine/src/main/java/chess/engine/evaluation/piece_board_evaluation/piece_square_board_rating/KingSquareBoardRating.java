@@ -17,17 +17,6 @@ public final class KingSquareBoardRating {
             -65,  23,  16, -15, -56, -34,   2,  13,
     };
 
-    public static final int[] BLACK_KING_MID_GAME_SQUARE_RATING = {
-            -65,  23,  16, -15, -56, -34,   2,  13,
-             29,  -1, -20,  -7,  -8,  -4, -38, -29,
-             -9,  24,   2, -16, -20,   6,  22, -22,
-            -17, -20, -12, -27, -30, -25, -14, -36,
-            -49,  -1, -27, -39, -46, -44, -33, -51,
-            -14, -14, -22, -46, -44, -30, -15, -27,
-              1,   7,  -8, -64, -43, -16,   9,   8,
-            -15,  36,  12, -54,   8, -28,  24,  14,
-    };
-
 
     /**
      *  Source: <a href="https://www.talkchess.com/forum3/viewtopic.php?f=2&t=68311&start=19">talkchess</a>
@@ -44,15 +33,4 @@ public final class KingSquareBoardRating {
             -12,  17,  14,  17,  17,  38,  23,  11,
             -74, -35, -18, -18, -11,  15,   4, -17,
     };
-
-    public static final int[] BLACK_KING_END_GAME_SQUARE_RATING = {
-            -74, -35, -18, -18, -11,  15,   4, -17,
-            -12,  17,  14,  17,  17,  38,  23,  11,
-             10,  17,  23,  15,  20,  45,  44,  13,
-             -8,  22,  24,  27,  26,  33,  26,   3,
-            -18,  -4,  21,  24,  27,  23,   9, -11,
-            -19,  -3,  11,  21,  23,  16,   7,  -9,
-            -27, -11,   4,  13,  14,   4,  -5, -17,
-            -53, -34, -21, -11, -28, -14, -24, -43
-    };
 }
@@ -2,9 +2,9 @@ package chess.engine.move_validation.piece_validators;
 
 
 import chess.board.Board;
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
-import chess.engine.pre_computations.PreComputationHandler;
 
 public final class BishopValidator {
     public static final int[] BISHOP_OFFSETS = {-9, -7, 7, 9};
@@ -20,9 +20,9 @@ public final class BishopValidator {
      */
     public static boolean isValidBishopMove(Board board, int fromSquare, int toSquare, PieceColor playerColor) {
         if (!isBishopOnSquare(board, fromSquare, playerColor)) return false;
-        long bishopAttacks = PreComputationHandler.BISHOP_ATTACKS[fromSquare];
+        long bishopAttacks = board.getAttackMap().attacksFrom(fromSquare);
         return (bishopAttacks & (1L << toSquare)) != 0 &&
-                (board.getPieceColorAtSquare(toSquare) == null || board.getPieceColorAtSquare(toSquare) != playerColor);
+                board.getPieceColorAtSquare(toSquare) != playerColor;
     }
 
     /**
@@ -34,9 +34,6 @@ public final class BishopValidator {
      * @return true if a knight of the specified color is on the square, false otherwise.
      */
     private static boolean isBishopOnSquare(Board board, int square, PieceColor playerColor) {
-        PieceType pieceType = board.getPieceTypeAtSquare(square);
-        PieceColor pieceColor = board.getPieceColorAtSquare(square);
-
-        return pieceType == PieceType.BISHOP && pieceColor == playerColor;
+        return board.pieceAt(square) == Piece.code(PieceType.BISHOP, playerColor);
     }
 }
\ No newline at end of file
@@ -1,11 +1,12 @@
 package chess.engine.move_validation.piece_validators;
 
 
+import chess.board.AttackMap;
 import chess.board.Board;
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
 import chess.engine.move_validation.interfaces.PieceValidator;
-import chess.engine.pre_computations.PreComputationHandler;
 
 public class KingValidator implements PieceValidator {
 
@@ -23,9 +24,10 @@ public class KingValidator implements PieceValidator {
     public static boolean isValidKingMove(Board board, int fromSquare, int toSquare, PieceColor playerColor) {
         if (!isKingOnSquare(board, fromSquare, playerColor)) return false;
 
-        long kingAttacks = PreComputationHandler.KING_ATTACKS[fromSquare];
-        return (kingAttacks & (1L << toSquare)) != 0 &&
-                (board.getPieceColorAtSquare(toSquare) == null || board.getPieceColorAtSquare(toSquare) != playerColor);
+        AttackMap attackMap = board.getAttackMap();
+        return (attackMap.attacksFrom(fromSquare) & (1L << toSquare)) != 0 &&
+                board.getPieceColorAtSquare(toSquare) != playerColor &&
+                !attackMap.isAttacked(toSquare, playerColor.opposite());
     }
 
     /**
@@ -37,9 +39,6 @@ public class KingValidator implements PieceValidator {
      * @return true if a king of the specified color is on the square, false otherwise.
      */
     private static boolean isKingOnSquare(Board board, int square, PieceColor playerColor) {
-        PieceType pieceType = board.getPieceTypeAtSquare(square);
-        PieceColor pieceColor = board.getPieceColorAtSquare(square);
-
-        return pieceType == PieceType.KING && pieceColor == playerColor;
+        return board.pieceAt(square) == Piece.code(PieceType.KING, playerColor);
     }
 }
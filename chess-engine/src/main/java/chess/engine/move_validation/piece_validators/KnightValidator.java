@@ -2,9 +2,9 @@ package chess.engine.move_validation.piece_validators;
 
 
 import chess.board.Board;
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
-import chess.engine.pre_computations.PreComputationHandler;
 
 public final class KnightValidator {
     public static final int[] KNIGHT_OFFSETS = {-17, -15, -10, -6, 6, 10, 15, 17};
@@ -21,15 +21,15 @@ public final class KnightValidator {
     public static boolean isValidKnightMove(Board board, int from, int to, PieceColor playerColor) {
         if (!isKnightOnSquare(board, from, playerColor)) return false;
 
-        // Retrieve the pre-computed knight attack bitboard for the 'from' square
-        long knightAttacks = PreComputationHandler.KNIGHT_ATTACKS[from];
+        // Retrieve the knight attack bitboard for the 'from' square from the position's attack map
+        long knightAttacks = board.getAttackMap().attacksFrom(from);
 
         // Check if the destination square 'to' is set in the knight attack bitboard
         // This is done by creating a bitmask with a single bit set at the 'to' position (1L << to)
         // and then performing a bitwise AND (&) with the knight attack bitboard.
         // If the result is non-zero, it means the destination square is within the knight's valid moves.
         return (knightAttacks & (1L << to)) != 0 &&
-                (board.getPieceColorAtSquare(to) == null || board.getPieceColorAtSquare(to) != playerColor);
+                board.getPieceColorAtSquare(to) != playerColor;
     }
 
     /**
@@ -41,9 +41,7 @@ public final class KnightValidator {
      * @return true if a knight of the specified color is on the square, false otherwise.
      */
     private static boolean isKnightOnSquare(Board board, int square, PieceColor playerColor) {
-        PieceType pieceType = board.getPieceTypeAtSquare(square);
-        PieceColor pieceColor = board.getPieceColorAtSquare(square);
-        return pieceType == PieceType.KNIGHT && pieceColor == playerColor;
+        return board.pieceAt(square) == Piece.code(PieceType.KNIGHT, playerColor);
     }
 
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package chess.engine.move_validation.piece_validators;
 
 
 import chess.board.Board;
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
 import chess.engine.pre_computations.PreComputationHandler;
@@ -40,20 +41,19 @@ public final class PawnValidator {
                 : PreComputationHandler.BLACK_PAWN_ATTACKS[fromSquare];
 
         // Check if the move is a valid forward move
-        if (toSquare == fromSquare + forwardOffset && board.getPieceTypeAtSquare(toSquare) == null) {
+        if (toSquare == fromSquare + forwardOffset && board.pieceAt(toSquare) == Piece.EMPTY) {
             return true;
         }
 
         // Check if the move is a valid double forward move from the starting rank
-        if (toSquare == fromSquare + doubleForwardOffset && board.getPieceTypeAtSquare(toSquare) == null &&
+        if (toSquare == fromSquare + doubleForwardOffset && board.pieceAt(toSquare) == Piece.EMPTY &&
                 ((playerColor == PieceColor.WHITE && fromSquare >= 8 && fromSquare <= 15) ||
                         (playerColor == PieceColor.BLACK && fromSquare >= 48 && fromSquare <= 55))) {
             return true;
         }
 
         // Check if the move is a valid capture
-        return (pawnAttacks & (1L << toSquare)) != 0 && board.getPieceColorAtSquare(toSquare) != null &&
-                board.getPieceColorAtSquare(toSquare) != playerColor;
+        return (pawnAttacks & (1L << toSquare)) != 0 && board.getPieceColorAtSquare(toSquare) == playerColor.opposite();
     }
 
     /**
@@ -65,10 +65,7 @@ public final class PawnValidator {
      * @return true if a pawn of the specified color is on the square, false otherwise.
      */
     public static boolean isPawnOnSquare(Board board, int square, PieceColor playerColor) {
-        PieceType pieceType = board.getPieceTypeAtSquare(square);
-        PieceColor pieceColor = board.getPieceColorAtSquare(square);
-
-        return pieceType == PieceType.PAWN && pieceColor == playerColor;
+        return board.pieceAt(square) == Piece.code(PieceType.PAWN, playerColor);
     }
 
 
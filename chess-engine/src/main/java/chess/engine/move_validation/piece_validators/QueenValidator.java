@@ -2,10 +2,10 @@ package chess.engine.move_validation.piece_validators;
 
 
 import chess.board.Board;
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
 import chess.engine.move_validation.interfaces.PieceValidator;
-import chess.engine.pre_computations.PreComputationHandler;
 
 public final class QueenValidator implements PieceValidator {
 
@@ -24,9 +24,9 @@ public final class QueenValidator implements PieceValidator {
     public static boolean isValidQueenMove(Board board, int fromSquare, int toSquare, PieceColor playerColor) {
         if (!isQueenOnSquare(board, fromSquare, playerColor)) return false;
 
-        long queenAttacks = PreComputationHandler.QUEEN_ATTACKS[fromSquare];
+        long queenAttacks = board.getAttackMap().attacksFrom(fromSquare);
         return (queenAttacks & (1L << toSquare)) != 0 &&
-                (board.getPieceColorAtSquare(toSquare) == null || board.getPieceColorAtSquare(toSquare) != playerColor);
+                board.getPieceColorAtSquare(toSquare) != playerColor;
     }
 
 
@@ -41,9 +41,6 @@ public final class QueenValidator implements PieceValidator {
      * @return true if a knight of the specified color is on the square, false otherwise.
      */
     private static boolean isQueenOnSquare(Board board, int fromSquare, PieceColor playerColor) {
-        PieceType pieceType = board.getPieceTypeAtSquare(fromSquare);
-        PieceColor pieceColor = board.getPieceColorAtSquare(fromSquare);
-
-        return pieceType == PieceType.QUEEN && pieceColor == playerColor;
+        return board.pieceAt(fromSquare) == Piece.code(PieceType.QUEEN, playerColor);
     }
 }
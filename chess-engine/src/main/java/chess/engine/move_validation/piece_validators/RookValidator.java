@@ -2,9 +2,9 @@ package chess.engine.move_validation.piece_validators;
 
 
 import chess.board.Board;
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
-import chess.engine.pre_computations.PreComputationHandler;
 
 public final class RookValidator {
 
@@ -22,10 +22,10 @@ public final class RookValidator {
     public static boolean isValidRookMove(Board board, int fromSquare, int toSquare, PieceColor playerColor) {
         if (!isRookOnSquare(board, fromSquare, playerColor)) return false;
 
-        long rooksAttacks = PreComputationHandler.ROOK_ATTACKS[fromSquare];
+        long rooksAttacks = board.getAttackMap().attacksFrom(fromSquare);
 
         return (rooksAttacks & (1L << toSquare)) != 0 &&
-                (board.getPieceColorAtSquare(toSquare) == null || board.getPieceColorAtSquare(toSquare) != playerColor);
+                board.getPieceColorAtSquare(toSquare) != playerColor;
     }
 
     /**
@@ -37,10 +37,7 @@ public final class RookValidator {
      * @return true if a knight of the specified color is on the square, false otherwise.
      */
     private static boolean isRookOnSquare(Board board, int fromSquare, PieceColor playerColor) {
-        PieceType pieceType = board.getPieceTypeAtSquare(fromSquare);
-        PieceColor pieceColor = board.getPieceColorAtSquare(fromSquare);
-
-        return pieceType == PieceType.ROOK && pieceColor == playerColor;
+        return board.pieceAt(fromSquare) == Piece.code(PieceType.ROOK, playerColor);
     }
 
 
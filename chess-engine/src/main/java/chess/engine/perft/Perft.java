@@ -0,0 +1,164 @@
+package chess.engine.perft;
+
+import chess.ai_player.move_generation.MoveGenerator;
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.PackedMove;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Perft (performance test) counts the leaf nodes of the legal move tree to a fixed depth. The counts of the
+ * standard positions are known, so perft proves the move generation, make and unmake correct end to end, and
+ * the time it takes measures their speed. The last ply is bulk counted: the number of legal moves is the
+ * number of leaves below a node at depth 1.
+ * <p>
+ * An instance keeps one {@link MoveList} per ply and is not thread safe. {@link #parallelPerft} splits the
+ * root moves over a fork-join pool, each task working on its own copy of the board.
+ */
+public final class Perft {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final MoveList[] moveLists = new MoveList[MAX_DEPTH];
+    private final PerftHashTable hashTable;
+
+    public Perft() {
+        this(null);
+    }
+
+    /**
+     * @param hashTable The table to cache subtree counts in, or null to count every node.
+     */
+    public Perft(PerftHashTable hashTable) {
+        this.hashTable = hashTable;
+        for (int ply = 0; ply < MAX_DEPTH; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    /**
+     * Counts the leaf nodes of the legal move tree of the board to the given depth.
+     *
+     * @param board The position to count from; it is restored before returning.
+     * @param depth The depth in plies.
+     * @return The number of leaf nodes.
+     */
+    public long perft(Board board, int depth) {
+        return perft(board, depth, 0);
+    }
+
+    private long perft(Board board, int depth, int ply) {
+        if (depth == 0) return 1;
+        // A hit skips the move generation as well, the last ply is cheaper to bulk count than to probe
+        long key = 0L;
+        if (hashTable != null && depth >= 2) {
+            key = board.getZobristKey();
+            long cached = hashTable.probe(key, depth);
+            if (cached >= 0) return cached;
+        }
+
+        MoveList moves = moveLists[ply];
+        MoveGenerator.generateLegal(board, moves);
+        if (depth == 1) return moves.size();
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            nodes += perft(board, depth - 1, ply + 1);
+            board.unmakeMove();
+        }
+
+        if (hashTable != null) {
+            hashTable.store(key, depth, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts the leaf nodes below every root move separately, which narrows a wrong perft count down to the
+     * move whose subtree differs from a reference engine.
+     *
+     * @param board The position to count from; it is restored before returning.
+     * @param depth The depth in plies, at least 1.
+     * @return The node count per root move in UCI notation, in generation order.
+     */
+    public Map<String, Long> divide(Board board, int depth) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegal(board, moves);
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            board.makeMove(move);
+            counts.put(PackedMove.toUci(move), perft(board, depth - 1, 0));
+            board.unmakeMove();
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the leaf nodes to the given depth with the root moves split over the common fork-join pool.
+     *
+     * @param board     The position to count from; it is not modified.
+     * @param depth     The depth in plies.
+     * @param hashTable A table shared by all tasks, or null.
+     * @return The number of leaf nodes.
+     */
+    public static long parallelPerft(Board board, int depth, PerftHashTable hashTable) {
+        return parallelPerft(ForkJoinPool.commonPool(), board, depth, hashTable);
+    }
+
+    /**
+     * Counts the leaf nodes to the given depth with the root moves split over the given fork-join pool.
+     *
+     * @param pool      The pool to run the root move tasks in.
+     * @param board     The position to count from; it is not modified.
+     * @param depth     The depth in plies.
+     * @param hashTable A table shared by all tasks, or null.
+     * @return The number of leaf nodes.
+     */
+    public static long parallelPerft(ForkJoinPool pool, Board board, int depth, PerftHashTable hashTable) {
+        if (depth <= 1) return new Perft().perft(board, depth);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegal(board, moves);
+
+        List<RootMoveTask> tasks = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            tasks.add(new RootMoveTask(board, moves.get(i), depth - 1, hashTable));
+        }
+        return pool.submit(() -> ForkJoinTask.invokeAll(tasks).stream().mapToLong(ForkJoinTask::join).sum()).join();
+    }
+
+    /**
+     * Counts the subtree of one root move on a private copy of the board.
+     */
+    private static final class RootMoveTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        // Tasks only live in the pool, they are never serialized
+        private final transient Board board;
+        private final int move;
+        private final int depth;
+        private final transient PerftHashTable hashTable;
+
+        private RootMoveTask(Board board, int move, int depth, PerftHashTable hashTable) {
+            this.board = new Board(board);
+            this.move = move;
+            this.depth = depth;
+            this.hashTable = hashTable;
+        }
+
+        @Override
+        protected Long compute() {
+            board.makeMove(move);
+            return new Perft(hashTable).perft(board, depth);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package chess.engine.perft;
+
+import java.util.Arrays;
+
+/**
+ * Hash table of perft subtree counts keyed by the Zobrist key of the position and the remaining depth.
+ * Entries are two flat {@code long[]} slots (no objects), and the stored key is XOR-ed with the stored
+ * value, so an entry whose two halves were written by different threads fails validation instead of
+ * returning a wrong count. The table can therefore be shared by all threads of a parallel perft without
+ * locks. Replacement is always-replace.
+ */
+public final class PerftHashTable {
+
+    private static final int ENTRY_BYTES = 16;
+    private static final int DEPTH_BITS = 8;
+
+    private final long[] keys;
+    private final long[] values;
+    private final int mask;
+
+    /**
+     * Creates a table using at most the given number of megabytes, rounded down to a power of two entries.
+     *
+     * @param sizeMb The size of the table in megabytes.
+     */
+    public PerftHashTable(int sizeMb) {
+        long entries = Long.highestOneBit(Math.max(1L, (long) sizeMb * 1024 * 1024 / ENTRY_BYTES));
+        int size = (int) Math.min(entries, 1 << 30);
+        keys = new long[size];
+        values = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Looks up the node count of a position searched to the given depth.
+     *
+     * @param key   The Zobrist key of the position.
+     * @param depth The remaining depth.
+     * @return The stored node count, or -1 if the position is not in the table at that depth.
+     */
+    public long probe(long key, int depth) {
+        int index = (int) key & mask;
+        long value = values[index];
+        if ((keys[index] ^ value) == key && (value & ((1 << DEPTH_BITS) - 1)) == depth) {
+            return value >>> DEPTH_BITS;
+        }
+        return -1;
+    }
+
+    /**
+     * Stores the node count of a position searched to the given depth.
+     *
+     * @param key   The Zobrist key of the position.
+     * @param depth The remaining depth (below 256).
+     * @param nodes The node count of the subtree.
+     */
+    public void store(long key, int depth, long nodes) {
+        int index = (int) key & mask;
+        long value = (nodes << DEPTH_BITS) | depth;
+        values[index] = value;
+        keys[index] = key ^ value;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, 0L);
+    }
+}
@@ -0,0 +1,124 @@
+package chess.engine.perft;
+
+import chess.board.Board;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs perft over the positions of an EPD resource and compares the counts against the expected values.
+ * Every line holds a FEN followed by {@code ;D<depth> <nodes>} operations, for example
+ * {@code <fen> ;D1 20 ;D2 400}. The standard suite is {@code perft/standard.epd}: the initial position,
+ * Kiwipete and the other positions commonly used to verify move generators.
+ * <p>
+ * Run {@link #main} to print nodes, time and nodes per second per position:
+ * {@code PerftSuite [maxDepth] [parallel] [hashMb]}.
+ */
+public final class PerftSuite {
+
+    public static final String STANDARD_SUITE = "perft/standard.epd";
+
+    private PerftSuite() {
+    }
+
+    /**
+     * A position of the suite with its expected node counts, {@code expected[d - 1]} being the count at depth d.
+     */
+    public record Position(String fen, long[] expected) {
+    }
+
+    /**
+     * Loads the positions of an EPD resource from the class path.
+     *
+     * @param resource The resource path, e.g. {@link #STANDARD_SUITE}.
+     * @return The positions in file order.
+     */
+    public static List<Position> load(String resource) {
+        List<Position> positions = new ArrayList<>();
+        try (InputStream input = PerftSuite.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) throw new IllegalArgumentException("Perft suite not found: " + resource);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                positions.add(parse(line));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading perft suite " + resource, e);
+        }
+        return positions;
+    }
+
+    static Position parse(String line) {
+        String[] fields = line.split(";");
+        long[] expected = new long[fields.length - 1];
+        for (int i = 1; i < fields.length; i++) {
+            String[] operation = fields[i].trim().split("\\s+");
+            int depth = Integer.parseInt(operation[0].substring(1));
+            if (depth > expected.length) {
+                expected = Arrays.copyOf(expected, depth);
+            }
+            expected[depth - 1] = Long.parseLong(operation[1]);
+        }
+        return new Position(fields[0].trim(), expected);
+    }
+
+    /**
+     * Runs the suite up to the given depth and prints one line per position and depth.
+     *
+     * @param positions The positions to run.
+     * @param maxDepth  The deepest depth to run, limited by the counts each position lists.
+     * @param parallel  Whether to split the root moves over the fork-join pool.
+     * @param hashMb    The size of the perft hash table in megabytes, 0 for none.
+     * @return true if every count matched.
+     */
+    public static boolean run(List<Position> positions, int maxDepth, boolean parallel, int hashMb) {
+        PerftHashTable hashTable = hashMb > 0 ? new PerftHashTable(hashMb) : null;
+        Perft perft = new Perft(hashTable);
+        boolean passed = true;
+        long totalNodes = 0;
+        long totalNanos = 0;
+
+        for (Position position : positions) {
+            Board board = new Board();
+            board.readFEN(position.fen());
+            System.out.println(position.fen());
+            // Cached counts from the previous position would make the timings meaningless
+            if (hashTable != null) hashTable.clear();
+
+            for (int depth = 1; depth <= Math.min(maxDepth, position.expected().length); depth++) {
+                long start = System.nanoTime();
+                long nodes = parallel ? Perft.parallelPerft(board, depth, hashTable) : perft.perft(board, depth);
+                long nanos = System.nanoTime() - start;
+                totalNodes += nodes;
+                totalNanos += nanos;
+
+                boolean matches = nodes == position.expected()[depth - 1];
+                passed &= matches;
+                System.out.printf("  depth %d: %,d nodes in %,d ms, %,d nps%s%n", depth, nodes, nanos / 1_000_000,
+                        nodesPerSecond(nodes, nanos), matches ? "" : "  MISMATCH, expected " + position.expected()[depth - 1]);
+            }
+        }
+        System.out.printf("Total: %,d nodes in %,d ms, %,d nps, %s%n", totalNodes, totalNanos / 1_000_000,
+                nodesPerSecond(totalNodes, totalNanos), passed ? "all counts match" : "COUNTS DIFFER");
+        return passed;
+    }
+
+    private static long nodesPerSecond(long nodes, long nanos) {
+        return nanos == 0 ? 0 : nodes * 1_000_000_000L / nanos;
+    }
+
+    public static void main(String[] args) {
+        int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        boolean parallel = args.length > 1 && Boolean.parseBoolean(args[1]);
+        int hashMb = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        boolean passed = run(load(STANDARD_SUITE), maxDepth, parallel, hashMb);
+        System.exit(passed ? 0 : 1);
+    }
+}
@@ -1,7 +1,7 @@
 package chess.engine.pre_computations;
 
-import chess.engine.move_validation.interfaces.PieceValidator;
 import chess.engine.move_validation.piece_validators.*;
+import config.ConfigLoader;
 
 /**
  * Handles precomputations of attack bitboards for different chess pieces. This class
@@ -10,6 +10,14 @@ import chess.engine.move_validation.piece_validators.*;
  */
 public final class PreComputationHandler {
 
+    // File and rank masks used by the set-wise move generation
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_H = 0x8080808080808080L;
+    public static final long RANK_1 = 0x00000000000000FFL;
+    public static final long RANK_3 = 0x0000000000FF0000L;
+    public static final long RANK_6 = 0x0000FF0000000000L;
+    public static final long RANK_8 = 0xFF00000000000000L;
+
     // Bitboard arrays to store precomputed moves for each piece type
     public static final long[] WHITE_PAWN_ATTACKS = new long[64];
     public static final long[] BLACK_PAWN_ATTACKS = new long[64];
@@ -19,14 +27,273 @@ public final class PreComputationHandler {
     public static final long[] QUEEN_ATTACKS = new long[64];
     public static final long[] KING_ATTACKS = new long[64];
 
+    /**
+     * Square-pair geometry used by the legal move generation. {@code BETWEEN[a][b]} holds the squares strictly
+     * between two squares on a shared rank, file or diagonal, and {@code LINE[a][b]} the whole board-spanning
+     * line through both squares (including them). Both are empty when the squares are not aligned.
+     */
+    public static final long[][] BETWEEN = new long[64][64];
+    public static final long[][] LINE = new long[64][64];
+
+    /**
+     * Pawn structure masks used by the evaluation. A forward span holds the squares in front of a square on its
+     * file, up to the last rank as seen from the given side. A passed pawn mask adds the squares in front of the
+     * square on the adjacent files, a pawn of that color is passed when no enemy pawn stands on it. A pawn shield
+     * holds the squares one and two ranks in front of a king square on the king's file and the adjacent files.
+     */
+    public static final long[] FILES = new long[8];
+    public static final long[] ADJACENT_FILES = new long[8];
+    public static final long[] WHITE_FORWARD_SPANS = new long[64];
+    public static final long[] BLACK_FORWARD_SPANS = new long[64];
+    public static final long[] WHITE_PASSED_PAWN_MASKS = new long[64];
+    public static final long[] BLACK_PASSED_PAWN_MASKS = new long[64];
+    public static final long[] WHITE_PAWN_SHIELDS = new long[64];
+    public static final long[] BLACK_PAWN_SHIELDS = new long[64];
+
+    /**
+     * King zones used by the king safety evaluation: the square of the king, the squares around it and the
+     * squares one rank further towards the enemy, as seen from the king's side.
+     */
+    public static final long[] WHITE_KING_ZONES = new long[64];
+    public static final long[] BLACK_KING_ZONES = new long[64];
+
+    /**
+     * Occupancy-aware sliding attacks. For every square the relevant occupancy mask (the rays without the
+     * board edge squares) selects the blockers that matter, and the blockers are hashed into a slot of the
+     * shared {@code SLIDING_ATTACK_TABLE}. The hashing is either a fancy magic multiply-and-shift or a
+     * {@link Long#compress(long, long)} (PEXT) of the occupancy, picked once at startup through the
+     * {@code engine.sliding.lookup} setting (system property or config.properties).
+     */
+    public static final boolean PEXT_LOOKUP = "PEXT".equalsIgnoreCase(
+            System.getProperty("engine.sliding.lookup", new ConfigLoader().getSlidingAttackLookup()));
+
+    private static final int[][] ROOK_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    private static final long[] ROOK_MASKS = new long[64];
+    private static final long[] BISHOP_MASKS = new long[64];
+    private static final long[] ROOK_MAGICS = new long[64];
+    private static final long[] BISHOP_MAGICS = new long[64];
+    private static final int[] ROOK_SHIFTS = new int[64];
+    private static final int[] BISHOP_SHIFTS = new int[64];
+    private static final int[] ROOK_TABLE_OFFSETS = new int[64];
+    private static final int[] BISHOP_TABLE_OFFSETS = new int[64];
+
+    // 102400 rook entries followed by 5248 bishop entries
+    private static final long[] SLIDING_ATTACK_TABLE = new long[102400 + 5248];
+
+    // Seeds per rank for the magic search, they make the search converge quickly and deterministically
+    private static final long[] MAGIC_SEEDS = {728, 10316, 55013, 32803, 12281, 15100, 16645, 255};
+
     static {
         calculatePawnAttacks(PawnValidator.WHITE_PAWN_ATTACK_OFFSETS, WHITE_PAWN_ATTACKS);
         calculatePawnAttacks(PawnValidator.BLACK_PAWN_ATTACK_OFFSETS, BLACK_PAWN_ATTACKS);
         calculateKnightAttacks();
-        slidingPieceAttackComputation(BishopValidator.BISHOP_OFFSETS, BISHOP_ATTACKS);
-        slidingPieceAttackComputation(RookValidator.ROOK_OFFSETS, ROOK_ATTACKS);
-        slidingPieceAttackComputation(QueenValidator.QUEEN_OFFSET, QUEEN_ATTACKS);
+        int tableSize = initSlidingAttacks(ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_TABLE_OFFSETS, 0);
+        initSlidingAttacks(BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_TABLE_OFFSETS, tableSize);
+        for (int square = 0; square < 64; square++) {
+            ROOK_ATTACKS[square] = rookAttacks(square, 0L);
+            BISHOP_ATTACKS[square] = bishopAttacks(square, 0L);
+            QUEEN_ATTACKS[square] = ROOK_ATTACKS[square] | BISHOP_ATTACKS[square];
+        }
         calculateKingAttacks();
+        calculateLines();
+        calculatePawnStructureMasks();
+        calculateKingZones();
+    }
+
+    /**
+     * Returns the squares attacked by a rook on the given square, stopping at (and including) the first
+     * blocker in every direction.
+     *
+     * @param square    The square of the rook (0-63).
+     * @param occupancy The bitboard of all pieces on the board.
+     * @return The attack bitboard of the rook.
+     */
+    public static long rookAttacks(int square, long occupancy) {
+        if (PEXT_LOOKUP) {
+            return SLIDING_ATTACK_TABLE[ROOK_TABLE_OFFSETS[square] + (int) Long.compress(occupancy, ROOK_MASKS[square])];
+        }
+        return SLIDING_ATTACK_TABLE[ROOK_TABLE_OFFSETS[square]
+                + (int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+    }
+
+    /**
+     * Returns the squares attacked by a bishop on the given square, stopping at (and including) the first
+     * blocker in every direction.
+     *
+     * @param square    The square of the bishop (0-63).
+     * @param occupancy The bitboard of all pieces on the board.
+     * @return The attack bitboard of the bishop.
+     */
+    public static long bishopAttacks(int square, long occupancy) {
+        if (PEXT_LOOKUP) {
+            return SLIDING_ATTACK_TABLE[BISHOP_TABLE_OFFSETS[square] + (int) Long.compress(occupancy, BISHOP_MASKS[square])];
+        }
+        return SLIDING_ATTACK_TABLE[BISHOP_TABLE_OFFSETS[square]
+                + (int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+    }
+
+    /**
+     * Returns the squares attacked by a queen on the given square as the union of rook and bishop attacks.
+     *
+     * @param square    The square of the queen (0-63).
+     * @param occupancy The bitboard of all pieces on the board.
+     * @return The attack bitboard of the queen.
+     */
+    public static long queenAttacks(int square, long occupancy) {
+        return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+    }
+
+    /**
+     * Builds masks, magics and the attack table slots of one sliding piece type. Every subset of the relevant
+     * occupancy mask is enumerated with the Carry-Rippler trick, its attacks are computed by walking the rays
+     * once, and stored at the slot chosen by the active lookup. For the magic lookup a sparse random multiplier
+     * is searched per square until no two subsets with different attacks collide.
+     *
+     * @param directions  The rank/file steps the piece slides along.
+     * @param masks       Array receiving the relevant occupancy mask per square.
+     * @param magics      Array receiving the magic multiplier per square.
+     * @param shifts      Array receiving the index shift per square.
+     * @param offsets     Array receiving the offset of each square's slots in the shared table.
+     * @param tableOffset The first free slot in the shared table.
+     * @return The first free slot in the shared table after this piece type.
+     */
+    private static int initSlidingAttacks(int[][] directions, long[] masks, long[] magics, int[] shifts,
+                                          int[] offsets, int tableOffset) {
+        long[] occupancies = new long[4096];
+        long[] references = new long[4096];
+        int[] epoch = new int[4096];
+        int attempt = 0;
+
+        for (int square = 0; square < 64; square++) {
+            long edges = ((RANK_1 | RANK_8) & ~rankMask(square)) | ((FILE_A | FILE_H) & ~fileMask(square));
+            long mask = slidingAttacksOnTheFly(directions, square, 0L) & ~edges;
+            int bits = Long.bitCount(mask);
+            masks[square] = mask;
+            shifts[square] = 64 - bits;
+            offsets[square] = tableOffset;
+
+            int size = 0;
+            long subset = 0L;
+            do {
+                occupancies[size] = subset;
+                references[size] = slidingAttacksOnTheFly(directions, square, subset);
+                if (PEXT_LOOKUP) {
+                    SLIDING_ATTACK_TABLE[tableOffset + (int) Long.compress(subset, mask)] = references[size];
+                }
+                size++;
+                subset = (subset - mask) & mask;
+            } while (subset != 0);
+
+            if (!PEXT_LOOKUP) {
+                long seed = MAGIC_SEEDS[square >>> 3];
+                for (int i = 0; i < size; ) {
+                    long magic;
+                    do {
+                        seed = xorShift(seed);
+                        magic = seed * 2685821657736338717L;
+                        seed = xorShift(seed);
+                        magic &= seed * 2685821657736338717L;
+                        seed = xorShift(seed);
+                        magic &= seed * 2685821657736338717L;
+                    } while (Long.bitCount((mask * magic) >>> 56) < 6);
+
+                    attempt++;
+                    for (i = 0; i < size; i++) {
+                        int index = (int) ((occupancies[i] * magic) >>> shifts[square]);
+                        if (epoch[index] < attempt) {
+                            epoch[index] = attempt;
+                            SLIDING_ATTACK_TABLE[tableOffset + index] = references[i];
+                        } else if (SLIDING_ATTACK_TABLE[tableOffset + index] != references[i]) {
+                            break;
+                        }
+                    }
+                    magics[square] = magic;
+                }
+            }
+            tableOffset += size;
+        }
+        return tableOffset;
+    }
+
+    /**
+     * Walks the rays of a sliding piece one square at a time, stopping at the first blocker. Only used to fill
+     * the lookup tables at class initialisation.
+     */
+    private static long slidingAttacksOnTheFly(int[][] directions, int square, long occupancy) {
+        long attacks = 0L;
+        for (int[] direction : directions) {
+            int rank = square / 8 + direction[0];
+            int file = square % 8 + direction[1];
+            while (rank >= 0 && rank < 8 && file >= 0 && file < 8) {
+                long target = 1L << (rank * 8 + file);
+                attacks |= target;
+                if ((occupancy & target) != 0) break;
+                rank += direction[0];
+                file += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Smears every set bit of a bitboard towards the 8th rank.
+     */
+    public static long northFill(long bitboard) {
+        bitboard |= bitboard << 8;
+        bitboard |= bitboard << 16;
+        bitboard |= bitboard << 32;
+        return bitboard;
+    }
+
+    /**
+     * Smears every set bit of a bitboard towards the 1st rank.
+     */
+    public static long southFill(long bitboard) {
+        bitboard |= bitboard >>> 8;
+        bitboard |= bitboard >>> 16;
+        bitboard |= bitboard >>> 32;
+        return bitboard;
+    }
+
+    /**
+     * @return The whole files of all set bits of a bitboard.
+     */
+    public static long fileFill(long bitboard) {
+        return northFill(bitboard) | southFill(bitboard);
+    }
+
+    /**
+     * @return The squares attacked by a set of white pawns.
+     */
+    public static long whitePawnAttacks(long pawns) {
+        return ((pawns & ~FILE_A) << 7) | ((pawns & ~FILE_H) << 9);
+    }
+
+    /**
+     * @return The squares attacked by a set of black pawns.
+     */
+    public static long blackPawnAttacks(long pawns) {
+        return ((pawns & ~FILE_A) >>> 9) | ((pawns & ~FILE_H) >>> 7);
+    }
+
+    private static long rankMask(int square) {
+        return 0xFFL << (square & ~7);
+    }
+
+    private static long fileMask(int square) {
+        return FILE_A << (square & 7);
+    }
+
+    /**
+     * State step of the xorshift64* generator used by the magic search, the output is the state times a constant.
+     */
+    private static long xorShift(long seed) {
+        seed ^= seed >>> 12;
+        seed ^= seed << 25;
+        seed ^= seed >>> 27;
+        return seed;
     }
 
     /**
@@ -70,30 +337,6 @@ public final class PreComputationHandler {
         }
     }
 
-    /**
-     * Generic method to compute sliding moves for rooks, bishops, and queens.
-     * The method iterates through each direction the piece can move and calculates the valid squares.
-     *
-     * @param pieceOffsets Array of directional offsets corresponding to the movement of the piece.
-     * @param attacksArray Array to store the computed attack bitboards.
-     */
-    private static void slidingPieceAttackComputation(int[] pieceOffsets, long[] attacksArray) {
-        for (int square = 0; square < 64; square++) {
-            long attacks = 0L;
-            for (int offset : pieceOffsets) {
-                int destSquare = square;
-                while (true) {
-                    destSquare += offset;
-                    if (!PieceValidator.isWithinBoardBounds(destSquare) || Math.abs(destSquare % 8 - square % 8) > 1) {
-                        break;
-                    }
-                    attacks |= (1L << destSquare);
-                }
-            }
-            attacksArray[square] = attacks;
-        }
-    }
-
     /**
      * Calculates and stores the possible move squares for kings on every square of the chessboard.
      * Ensures that moves do not go off the edges of the board.
@@ -110,4 +353,59 @@ public final class PreComputationHandler {
             KING_ATTACKS[square] = attacks;
         }
     }
+
+    /**
+     * Calculates the {@code BETWEEN} and {@code LINE} tables from the empty-board and single-blocker
+     * sliding attacks.
+     */
+    private static void calculateLines() {
+        for (int from = 0; from < 64; from++) {
+            for (int to = 0; to < 64; to++) {
+                long ends = (1L << from) | (1L << to);
+                if (from == to) continue;
+                if ((BISHOP_ATTACKS[from] & (1L << to)) != 0) {
+                    LINE[from][to] = (BISHOP_ATTACKS[from] & BISHOP_ATTACKS[to]) | ends;
+                    BETWEEN[from][to] = bishopAttacks(from, 1L << to) & bishopAttacks(to, 1L << from);
+                } else if ((ROOK_ATTACKS[from] & (1L << to)) != 0) {
+                    LINE[from][to] = (ROOK_ATTACKS[from] & ROOK_ATTACKS[to]) | ends;
+                    BETWEEN[from][to] = rookAttacks(from, 1L << to) & rookAttacks(to, 1L << from);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the file, span, passed pawn and pawn shield masks from the fills of single squares.
+     */
+    private static void calculatePawnStructureMasks() {
+        for (int file = 0; file < 8; file++) {
+            FILES[file] = FILE_A << file;
+        }
+        for (int file = 0; file < 8; file++) {
+            ADJACENT_FILES[file] = (file > 0 ? FILES[file - 1] : 0L) | (file < 7 ? FILES[file + 1] : 0L);
+        }
+        for (int square = 0; square < 64; square++) {
+            long mask = 1L << square;
+            long sides = ADJACENT_FILES[square & 7];
+            WHITE_FORWARD_SPANS[square] = northFill(mask << 8);
+            BLACK_FORWARD_SPANS[square] = southFill(mask >>> 8);
+            WHITE_PASSED_PAWN_MASKS[square] = WHITE_FORWARD_SPANS[square] | (northFill(rankMask(square) << 8) & sides);
+            BLACK_PASSED_PAWN_MASKS[square] = BLACK_FORWARD_SPANS[square] | (southFill(rankMask(square) >>> 8) & sides);
+            long files = FILES[square & 7] | sides;
+            long rank = rankMask(square);
+            WHITE_PAWN_SHIELDS[square] = ((rank << 8) | (rank << 16)) & files;
+            BLACK_PAWN_SHIELDS[square] = ((rank >>> 8) | (rank >>> 16)) & files;
+        }
+    }
+
+    /**
+     * Calculates the king zones from the king attacks, pushed one rank further towards the enemy.
+     */
+    private static void calculateKingZones() {
+        for (int square = 0; square < 64; square++) {
+            long ring = KING_ATTACKS[square] | (1L << square);
+            WHITE_KING_ZONES[square] = ring | (ring << 8);
+            BLACK_KING_ZONES[square] = ring | (ring >>> 8);
+        }
+    }
 }
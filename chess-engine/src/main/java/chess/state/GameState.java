@@ -1,84 +1,45 @@
 package chess.state;
 
-import chess.ai_player.move_generation.KingMoveGenerator;
-import chess.ai_player.move_generation.KnightMoveGenerator;
-import chess.ai_player.move_generation.PawnMoveGenerator;
-import chess.ai_player.move_generation.SlidingPieceMoveGenerator;
+import chess.ai_player.move_generation.MoveGenerator;
 import chess.board.Board;
+import chess.board.MoveList;
 import chess.board.enums.PieceColor;
-import chess.board.enums.PieceType;
-
-import java.util.List;
 
 public class GameState {
     private Board board;
-    private PieceColor currentPlayer;
 
-    private final KingMoveGenerator kingMoveGenerator;
+    // Reused for every legal move count, so the checks do not allocate
+    private final MoveList legalMoves = new MoveList();
 
     // Constructor
     public GameState(Board board) {
         this.board = board;
-        this.currentPlayer = PieceColor.WHITE;
-        kingMoveGenerator = new KingMoveGenerator(board);
     }
 
     public boolean isKingInCheck() {
+        PieceColor currentPlayer = board.getCurrentPlayer();
         int kingPosition = board.getKingPosition(currentPlayer);
-        return isKingPositionUnderAttack(kingPosition, currentPlayer.opposite());
+        return kingPosition >= 0 && board.getAttackMap().isAttacked(kingPosition, currentPlayer.opposite());
     }
 
+    /**
+     * The side to move is checkmated when it is in check and has no legal move left, including captures of the
+     * checking piece and interpositions. The check test and the legal move generation share the board's attack
+     * map, so the position's threats are computed once.
+     */
     public boolean isKingInCheckmate() {
-        if (!isKingInCheck()) {
-            return false;
-        }
-
-        int kingPosition = board.getKingPosition(currentPlayer);
-        List<Integer> possibleMoves = kingMoveGenerator.generateMovesForKing(kingPosition, currentPlayer);
-
-        // Check if there's any valid move where the king is not under attack
-        for (Integer move : possibleMoves) {
-            if (!isKingPositionUnderAttack(move, currentPlayer.opposite())) {
-                return false;
-            }
-        }
-        return true; // No valid moves where the king is not under attack
+        return isKingInCheck() && !hasLegalMove();
     }
 
-    private boolean isKingPositionUnderAttack(int position, PieceColor enemyColor) {
-        long threatBitboard = 0L;
-
-        // Include all enemy piece moves that could potentially attack the given position
-        threatBitboard |= getThreatBitboard(PieceType.PAWN, enemyColor);
-        threatBitboard |= getThreatBitboard(PieceType.KNIGHT, enemyColor);
-        threatBitboard |= getThreatBitboard(PieceType.BISHOP, enemyColor);
-        threatBitboard |= getThreatBitboard(PieceType.ROOK, enemyColor);
-        threatBitboard |= getThreatBitboard(PieceType.QUEEN, enemyColor);
-
-        // Check if the position is under threat
-        return (threatBitboard & (1L << position)) != 0;
+    /**
+     * The side to move is stalemated when it is not in check but has no legal move.
+     */
+    public boolean isStalemate() {
+        return !isKingInCheck() && !hasLegalMove();
     }
 
-    private long getThreatBitboard(PieceType pieceType, PieceColor enemyColor) {
-        long pieces = board.getBitboard().getBitboardForPieceTypeAndColor(pieceType, enemyColor);
-        long movesBitboard = 0L;
-
-        while (pieces != 0) {
-            int fromSquare = Long.numberOfTrailingZeros(pieces);
-            pieces &= ~(1L << fromSquare); // Clear the bit to move to the next piece
-
-            List<Integer> moves = switch (pieceType) {
-                case PAWN -> new PawnMoveGenerator(board).generateMovesForPawn(fromSquare, enemyColor);
-                case KNIGHT -> new KnightMoveGenerator(board).generateMovesForKnight(fromSquare, enemyColor);
-                default -> // For BISHOP, ROOK, QUEEN
-                        new SlidingPieceMoveGenerator(board).generateMovesForSlidingPiece(fromSquare, enemyColor, pieceType);
-            };
-
-            for (int move : moves) {
-                movesBitboard |= 1L << move;
-            }
-        }
-
-        return movesBitboard;
+    private boolean hasLegalMove() {
+        MoveGenerator.generateLegal(board, legalMoves);
+        return !legalMoves.isEmpty();
     }
 }
@@ -1,4 +1,102 @@
 package chess.utility;
 
-public class MoveHistory {
+/**
+ * Preallocated undo stack for {@link chess.board.Board#makeMove(int)} and {@link chess.board.Board#unmakeMove()}.
+ * Every ply stores the irreversible state of the position before the move in parallel primitive arrays, so
+ * making and unmaking moves never allocates. The stored keys double as the position history for repetition
+ * detection.
+ */
+public final class MoveHistory {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int[] moves;
+    private final int[] capturedPieces;
+    private final long[] zobristKeys;
+    private final int[] castlingRights;
+    private final int[] enPassantSquares;
+    private final int[] halfmoveClocks;
+    private int ply;
+
+    public MoveHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MoveHistory(int capacity) {
+        moves = new int[capacity];
+        capturedPieces = new int[capacity];
+        zobristKeys = new long[capacity];
+        castlingRights = new int[capacity];
+        enPassantSquares = new int[capacity];
+        halfmoveClocks = new int[capacity];
+    }
+
+    /**
+     * Records the state of the position before a move is made.
+     *
+     * @param move            The packed move about to be made.
+     * @param capturedPiece   The piece code of the captured piece, or Piece.EMPTY.
+     * @param zobristKey      The Zobrist key of the position before the move.
+     * @param castlingRight   The castling rights before the move.
+     * @param enPassantSquare The en passant square before the move, or -1.
+     * @param halfmoveClock   The halfmove clock before the move.
+     * @throws IllegalStateException if the stack is full.
+     */
+    public void push(int move, int capturedPiece, long zobristKey, int castlingRight, int enPassantSquare, int halfmoveClock) {
+        if (ply == moves.length) {
+            throw new IllegalStateException("Move history is full at " + ply + " plies");
+        }
+        moves[ply] = move;
+        capturedPieces[ply] = capturedPiece;
+        zobristKeys[ply] = zobristKey;
+        castlingRights[ply] = castlingRight;
+        enPassantSquares[ply] = enPassantSquare;
+        halfmoveClocks[ply] = halfmoveClock;
+        ply++;
+    }
+
+    /**
+     * Removes the latest entry. Its values stay readable through the accessors until the next push.
+     *
+     * @return The index of the removed entry.
+     * @throws IllegalStateException if the stack is empty.
+     */
+    public int pop() {
+        if (ply == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        return --ply;
+    }
+
+    public int size() {
+        return ply;
+    }
+
+    public void clear() {
+        ply = 0;
+    }
+
+    public int move(int index) {
+        return moves[index];
+    }
+
+    public int capturedPiece(int index) {
+        return capturedPieces[index];
+    }
+
+    public long zobristKey(int index) {
+        return zobristKeys[index];
+    }
+
+    public int castlingRights(int index) {
+        return castlingRights[index];
+    }
+
+    public int enPassantSquare(int index) {
+        return enPassantSquares[index];
+    }
+
+    public int halfmoveClock(int index) {
+        return halfmoveClocks[index];
+    }
 }
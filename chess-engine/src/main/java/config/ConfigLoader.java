@@ -19,4 +19,38 @@ public class ConfigLoader {
     public int getServerPort() {
         return Integer.parseInt(properties.getProperty("server.port", "7000"));  // Default to 7000 if not specified
     }
+
+    public String getSlidingAttackLookup() {
+        return properties.getProperty("engine.sliding.lookup", "MAGIC");  // Default to magic bitboards if not specified
+    }
+
+    public int getSearchDepth() {
+        return Integer.parseInt(properties.getProperty("engine.search.depth", "32"));  // Default to 32 plies if not specified
+    }
+
+    public long getSearchMoveTime() {
+        return Long.parseLong(properties.getProperty("engine.search.movetime", "2000"));  // Default to 2 seconds if not specified
+    }
+
+    public int getHashSizeMb() {
+        return Integer.parseInt(properties.getProperty("engine.hash.size", "64"));  // Default to 64 MB if not specified
+    }
+
+    public int getSearchThreads() {
+        return Integer.parseInt(properties.getProperty("engine.search.threads", "1"));  // Default to a single thread if not specified
+    }
+
+    public int getMaxSearchThreads() {
+        String maxThreads = properties.getProperty("engine.search.threads.max");
+        // Default to the number of available cores if not specified
+        return maxThreads == null ? Runtime.getRuntime().availableProcessors() : Integer.parseInt(maxThreads);
+    }
+
+    public int getPonderThreads() {
+        return Integer.parseInt(properties.getProperty("engine.ponder.threads", "1"));  // Default to a single ponder thread if not specified
+    }
+
+    public boolean isSearchFeatureEnabled(String feature) {
+        return Boolean.parseBoolean(properties.getProperty("engine.search." + feature, "true"));  // Default to enabled if not specified
+    }
 }
@@ -0,0 +1,115 @@
+package chess.ai_player;
+
+import chess.board.Board;
+import chess.board.PackedMove;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaBetaMinMaxTest {
+
+    private final AlphaBetaMinMax search = new AlphaBetaMinMax();
+
+    @Test
+    void testFindsMateInOne() {
+        // Back rank mate with Ra8
+        SearchResult result = search.search(Board.fromFEN("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"), 4, -1);
+
+        assertEquals("a1a8", result.bestMoveUci());
+        assertTrue(result.isMate());
+        assertEquals(AlphaBetaMinMax.MATE - 1, result.score());
+    }
+
+    @Test
+    void testFindsMateInTwoForBlack() {
+        // 1... Ra1+ 2. Rd1 Rxd1#
+        SearchResult result = search.search(Board.fromFEN("rr4k1/5ppp/8/8/8/8/3R1PPP/6K1 b - - 0 1"), 5, -1);
+
+        assertEquals("a8a1", result.bestMoveUci());
+        assertEquals(AlphaBetaMinMax.MATE - 3, result.score());
+        assertEquals(3, result.principalVariation().length);
+    }
+
+    @Test
+    void testWinsHangingQueen() {
+        SearchResult result = search.search(Board.fromFEN("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1"), 3, -1);
+        assertEquals("d1d5", result.bestMoveUci());
+    }
+
+    @Test
+    void testQuiescenceSeesTheRecapture() {
+        // At depth 1 only the quiescence search finds that c6xd5 wins the queen back
+        SearchResult result = search.search(Board.fromFEN("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1"), 1, -1);
+        assertNotEquals("d1d5", result.bestMoveUci());
+    }
+
+    @Test
+    void testSelectiveSearchSearchesFewerNodes() {
+        String kiwipete = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+        SearchResult plain = new AlphaBetaMinMax(new TranspositionTable(1), SearchOptions.NONE).search(Board.fromFEN(kiwipete), 5, -1);
+        SearchResult selective = new AlphaBetaMinMax(new TranspositionTable(1), SearchOptions.ALL).search(Board.fromFEN(kiwipete), 5, -1);
+
+        assertEquals(5, selective.depth());
+        assertTrue(selective.nodes() < plain.nodes(), "Pruning and reductions should shrink the tree.");
+    }
+
+    @Test
+    void testEachSelectiveTechniqueKeepsFindingTheMate() {
+        SearchOptions[] alone = {
+                new SearchOptions(true, false, false, false, false, false),
+                new SearchOptions(false, true, false, false, false, false),
+                new SearchOptions(false, false, true, false, false, false),
+                new SearchOptions(false, false, false, true, false, false),
+                new SearchOptions(false, false, false, false, true, false),
+                new SearchOptions(false, false, false, false, false, true),
+        };
+        for (SearchOptions options : alone) {
+            SearchResult result = new AlphaBetaMinMax(new TranspositionTable(1), options)
+                    .search(Board.fromFEN("rr4k1/5ppp/8/8/8/8/3R1PPP/6K1 b - - 0 1"), 5, -1);
+            assertEquals(AlphaBetaMinMax.MATE - 3, result.score(), options.toString());
+        }
+    }
+
+    @Test
+    void testPrincipalVariationStartsWithBestMove() {
+        SearchResult result = search.search(new Board(), 4, -1);
+
+        assertEquals(4, result.depth());
+        assertTrue(result.principalVariation().length >= 1);
+        assertEquals(result.bestMove(), result.principalVariation()[0]);
+        assertTrue(result.nodes() > 0);
+    }
+
+    @Test
+    void testNoMoveWhenCheckmatedOrStalemated() {
+        SearchResult mated = search.search(Board.fromFEN("R5k1/5ppp/8/8/8/8/8/6K1 b - - 0 1"), 3, -1);
+        assertEquals(PackedMove.NO_MOVE, mated.bestMove());
+        assertEquals(-AlphaBetaMinMax.MATE, mated.score());
+
+        SearchResult stalemate = search.search(Board.fromFEN("k7/8/1Q6/8/8/8/8/7K b - - 0 1"), 3, -1);
+        assertEquals(PackedMove.NO_MOVE, stalemate.bestMove());
+        assertEquals(0, stalemate.score());
+    }
+
+    @Test
+    void testSearchLeavesPositionUntouched() {
+        Board board = new Board();
+        long key = board.getZobristKey();
+        search.search(board, 3, -1);
+        assertEquals(key, board.getZobristKey());
+    }
+
+    @Test
+    void testTimeBudgetStillCompletesFirstIteration() {
+        SearchResult result = search.search(new Board(), 60, 0);
+        assertTrue(result.depth() >= 1);
+        assertNotEquals(PackedMove.NO_MOVE, result.bestMove());
+    }
+
+    @Test
+    void testPlayAnswersWithPositionAfterEngineMove() {
+        AIPlayer aiPlayer = new AIPlayer(3, -1, 1);
+        String fen = aiPlayer.play("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+        assertEquals("4k3/8/8/3R4/8/8/8/4K3 b - - 0 1", fen);
+    }
+}
@@ -0,0 +1,47 @@
+package chess.ai_player;
+
+import chess.board.Board;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazySmpSearchTest {
+
+    @Test
+    void testHelpersFindSameMate() {
+        LazySmpSearch search = new LazySmpSearch(new TranspositionTable(4), 4);
+        SearchResult result = search.search(Board.fromFEN("rr4k1/5ppp/8/8/8/8/3R1PPP/6K1 b - - 0 1"), 5, -1, 4);
+
+        assertEquals("a8a1", result.bestMoveUci());
+        assertEquals(AlphaBetaMinMax.MATE - 3, result.score());
+    }
+
+    @Test
+    void testNodesOfAllThreadsAreCounted() {
+        LazySmpSearch search = new LazySmpSearch(new TranspositionTable(4), 3);
+        SearchResult result = search.search(new Board(), 5, -1, 3);
+
+        assertEquals(5, result.depth());
+        assertTrue(result.nodes() >= search.getMainSearch().getNodes());
+    }
+
+    @Test
+    void testThreadCountIsCapped() {
+        LazySmpSearch search = new LazySmpSearch(new TranspositionTable(1), 2);
+        assertEquals(2, search.getMaxThreads());
+        // Asking for more threads than the cap still searches, with the capped number of threads
+        SearchResult result = search.search(new Board(), 3, -1, 64);
+        assertEquals(3, result.depth());
+    }
+
+    @Test
+    void testHelpersStopWithMainThread() {
+        LazySmpSearch search = new LazySmpSearch(new TranspositionTable(4), 3);
+        long start = System.nanoTime();
+        SearchResult result = search.search(new Board(), AlphaBetaMinMax.MAX_PLY - 1, 200, 3);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(result.depth() >= 1);
+        assertTrue(elapsedMillis < 2000, "Helpers without a deadline stop when the main thread is done.");
+    }
+}
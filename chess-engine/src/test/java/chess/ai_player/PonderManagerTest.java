@@ -0,0 +1,105 @@
+package chess.ai_player;
+
+import chess.board.Board;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PonderManagerTest {
+
+    private final TranspositionTable table = new TranspositionTable(4);
+
+    /**
+     * Plays the engine's move from the start position and returns its principal variation, with the move made
+     * on the board.
+     */
+    private int[] playFirstMove(Board board) {
+        SearchResult result = new AlphaBetaMinMax(table).search(board, 6, -1);
+        assertTrue(result.principalVariation().length >= 2);
+        board.makeMove(result.bestMove());
+        return result.principalVariation();
+    }
+
+    @Test
+    void testExpectedReplyIsAnsweredFromThePonderSearch() throws InterruptedException {
+        PonderManager ponderManager = new PonderManager(table, SearchOptions.ALL, 1, 20);
+        Board board = new Board();
+        int[] principalVariation = playFirstMove(board);
+        ponderManager.start("game", board, principalVariation);
+        assertEquals(1, ponderManager.getActiveSessions());
+
+        Thread.sleep(150);
+        Board reply = new Board(board);
+        reply.makeMove(principalVariation[1]);
+        SearchResult result = ponderManager.take("game", reply, new TimeManager(SearchLimits.moveTime(20, 100)));
+
+        assertNotNull(result, "Pondering longer than the move may think answers the move.");
+        assertTrue(result.depth() >= 1);
+        assertEquals(1, ponderManager.getHits());
+        assertEquals(0, ponderManager.getActiveSessions());
+    }
+
+    @Test
+    void testPonderingKeepsTheTableGeneration() {
+        PonderManager ponderManager = new PonderManager(table, SearchOptions.ALL, 1, 20);
+        Board board = new Board();
+        int[] principalVariation = playFirstMove(board);
+        int age = table.getAge();
+
+        ponderManager.start("game", board, principalVariation);
+        Board reply = new Board(board);
+        reply.makeMove(principalVariation[1]);
+        ponderManager.take("game", reply, new TimeManager(SearchLimits.moveTime(20, 100)));
+        assertEquals(age, table.getAge(), "Only the searches answering requests start a new generation.");
+    }
+
+    @Test
+    void testOtherReplyDropsThePonderSearch() {
+        PonderManager ponderManager = new PonderManager(table, SearchOptions.ALL, 1, 20);
+        Board board = new Board();
+        ponderManager.start("game", board, playFirstMove(board));
+
+        Board otherReply = new Board();
+        otherReply.readFEN("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+        assertNull(ponderManager.take("game", otherReply, new TimeManager(SearchLimits.moveTime(20, 100))));
+        assertEquals(1, ponderManager.getMisses());
+        assertEquals(0, ponderManager.getActiveSessions());
+    }
+
+    @Test
+    void testSessionsAreCappedOverAllGames() {
+        PonderManager ponderManager = new PonderManager(table, SearchOptions.ALL, 1, 20);
+        Board board = new Board();
+        int[] principalVariation = playFirstMove(board);
+        ponderManager.start("first", board, principalVariation);
+        ponderManager.start("second", board, principalVariation);
+
+        assertEquals(1, ponderManager.getActiveSessions(), "The oldest session makes room for the new one.");
+        assertNull(ponderManager.take("first", board, new TimeManager(SearchLimits.moveTime(20, 100))));
+        ponderManager.stopAll();
+        assertEquals(0, ponderManager.getActiveSessions());
+    }
+
+    @Test
+    void testOnlyGamesArePondered() {
+        AIPlayer player = new AIPlayer(20, 50, 4, 1, 1, SearchOptions.ALL, 1);
+        String fen = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+        player.play(null, fen, 1, new TimeManager(player.getLimits()));
+        assertEquals(0, player.getPonderManager().getActiveSessions());
+        player.play("game", fen, 1, new TimeManager(player.getLimits()));
+        assertEquals(1, player.getPonderManager().getActiveSessions());
+        player.getPonderManager().stopAll();
+    }
+
+    @Test
+    void testRequestsStopThePonderSearchesOfOtherGames() {
+        AIPlayer player = new AIPlayer(20, 50, 4, 1, 1, SearchOptions.ALL, 1);
+        String fen = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+        player.play("game", fen, 1, new TimeManager(player.getLimits()));
+        assertEquals(1, player.getPonderManager().getActiveSessions());
+        player.findBestMove("other", fen, 1, new TimeManager(player.getLimits()));
+        assertEquals(0, player.getPonderManager().getActiveSessions());
+    }
+}
@@ -0,0 +1,101 @@
+package chess.ai_player;
+
+import chess.ai_player.move_generation.MoveGenerator;
+import chess.board.Board;
+import chess.board.MoveList;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeManagerTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    @Test
+    void testFixedMoveTimeIsBothDeadlines() {
+        TimeManager timeManager = new TimeManager(SearchLimits.moveTime(20, 500));
+        assertEquals(500, timeManager.getSoftMillis());
+        assertEquals(500, timeManager.getHardMillis());
+    }
+
+    @Test
+    void testClockIsSpreadOverTheComingMoves() {
+        TimeManager timeManager = new TimeManager(SearchLimits.clock(20, 60_000, 1_000));
+        // (60000 - 30) / 30 moves, plus three quarters of the increment
+        assertEquals(1_999 + 750, timeManager.getSoftMillis());
+        assertEquals(4 * (1_999 + 750), timeManager.getHardMillis());
+
+        TimeManager shortOfTime = new TimeManager(SearchLimits.clock(20, 330, 1_000));
+        assertEquals(75, shortOfTime.getSoftMillis(), "A move never plans for more than a quarter of the clock.");
+        assertEquals(100, shortOfTime.getHardMillis(), "A move never takes more than a third of the clock.");
+    }
+
+    @Test
+    void testStopEndsTheIterations() {
+        TimeManager timeManager = new TimeManager(SearchLimits.depth(20));
+        assertTrue(timeManager.canStartIteration());
+        timeManager.stop();
+        assertFalse(timeManager.canStartIteration());
+    }
+
+    @Test
+    void testHardDeadlineBoundsTheSearch() {
+        AlphaBetaMinMax search = new AlphaBetaMinMax(new TranspositionTable(1));
+        TimeManager timeManager = new TimeManager(SearchLimits.moveTime(AlphaBetaMinMax.MAX_PLY, 200));
+        SearchResult result = search.search(Board.fromFEN(KIWIPETE), timeManager);
+
+        assertTrue(result.depth() >= 1);
+        assertTrue(timeManager.elapsedMillis() < 1_000, "The search should end soon after its deadline.");
+    }
+
+    @Test
+    void testNodeLimit() {
+        AlphaBetaMinMax search = new AlphaBetaMinMax(new TranspositionTable(1));
+        SearchResult result = search.search(Board.fromFEN(KIWIPETE),
+                new TimeManager(SearchLimits.depth(AlphaBetaMinMax.MAX_PLY).withMaxNodes(20_000)));
+
+        assertTrue(result.depth() >= 1);
+        // The limit is checked every 2048 nodes
+        assertTrue(result.nodes() <= 20_000 + 2_048, "Searched " + result.nodes() + " nodes.");
+    }
+
+    @Test
+    void testLimitsEndTheFirstIterationWithALegalMove() {
+        Board position = Board.fromFEN(KIWIPETE);
+        MoveList legal = new MoveList();
+        MoveGenerator.generateLegal(position, legal);
+        AlphaBetaMinMax search = new AlphaBetaMinMax(new TranspositionTable(1));
+
+        // Starting five plies deeper, the first iteration takes far more than the budget
+        search.prepare(5);
+        SearchResult result = search.iterate(position,
+                new TimeManager(SearchLimits.depth(AlphaBetaMinMax.MAX_PLY).withMaxNodes(1)));
+        assertEquals(0, result.depth());
+        // The limit is checked every 2048 nodes
+        assertTrue(result.nodes() < 2 * 2_048, "Searched " + result.nodes() + " nodes.");
+        assertTrue(legal.contains(result.bestMove()));
+
+        search.prepare(5);
+        TimeManager timeManager = new TimeManager(SearchLimits.moveTime(AlphaBetaMinMax.MAX_PLY, 0));
+        result = search.iterate(position, timeManager);
+        assertEquals(0, result.depth());
+        assertTrue(legal.contains(result.bestMove()));
+        assertTrue(timeManager.elapsedMillis() < 1_000, "The search should end soon after its deadline.");
+    }
+
+    @Test
+    void testStopFromAnotherThreadCancelsTheSearch() throws Exception {
+        LazySmpSearch search = new LazySmpSearch(new TranspositionTable(1), 2);
+        TimeManager timeManager = new TimeManager(SearchLimits.depth(AlphaBetaMinMax.MAX_PLY - 1));
+        CompletableFuture<SearchResult> running = CompletableFuture.supplyAsync(
+                () -> search.search(Board.fromFEN(KIWIPETE), timeManager, 2));
+
+        Thread.sleep(200);
+        timeManager.stop();
+        SearchResult result = running.get(5, TimeUnit.SECONDS);
+        assertTrue(result.depth() < AlphaBetaMinMax.MAX_PLY - 1);
+    }
+}
@@ -0,0 +1,72 @@
+package chess.ai_player;
+
+import chess.board.Board;
+import chess.board.PackedMove;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    private static final int MOVE = PackedMove.encode(12, 28, null, PackedMove.DOUBLE_PAWN_PUSH);
+
+    @Test
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = new Board().getZobristKey();
+        assertEquals(TranspositionTable.MISS, table.probe(key));
+
+        table.store(key, MOVE, -125, 7, TranspositionTable.LOWER, 3);
+        long entry = table.probe(key);
+        assertEquals(MOVE, TranspositionTable.move(entry));
+        assertEquals(-125, TranspositionTable.score(entry, 3));
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(entry));
+        assertEquals(TranspositionTable.MISS, table.probe(key ^ 1L << 40), "Same bucket, other key.");
+    }
+
+    @Test
+    void testMateScoresAreStoredRelativeToThePosition() {
+        TranspositionTable table = new TranspositionTable(1);
+        // Mate found 5 plies from the root, stored at ply 2, so the position itself is mate in 3 plies
+        table.store(42L, MOVE, AlphaBetaMinMax.MATE - 5, 4, TranspositionTable.EXACT, 2);
+        assertEquals(AlphaBetaMinMax.MATE - 7, TranspositionTable.score(table.probe(42L), 4));
+    }
+
+    @Test
+    void testKeepsDeeperEntryAndItsMove() {
+        TranspositionTable table = new TranspositionTable(1);
+        table.store(42L, MOVE, 10, 9, TranspositionTable.LOWER, 0);
+        table.store(42L, PackedMove.NO_MOVE, 20, 2, TranspositionTable.UPPER, 0);
+        assertEquals(9, TranspositionTable.depth(table.probe(42L)));
+
+        table.store(42L, PackedMove.NO_MOVE, 30, 8, TranspositionTable.UPPER, 0);
+        long entry = table.probe(42L);
+        assertEquals(30, TranspositionTable.score(entry, 0));
+        assertEquals(MOVE, TranspositionTable.move(entry), "A result without move keeps the stored move.");
+    }
+
+    @Test
+    void testReplacesOldEntriesFirstAndReportsHashfull() {
+        TranspositionTable table = new TranspositionTable(1);
+        long bucketStride = table.capacity() / 4;
+        // Fill one bucket with deep entries of an earlier search
+        for (long i = 0; i < 4; i++) {
+            table.store(i * bucketStride, MOVE, 0, 20, TranspositionTable.EXACT, 0);
+        }
+        table.newSearch();
+        table.store(4 * bucketStride, MOVE, 0, 1, TranspositionTable.EXACT, 0);
+        assertNotEquals(TranspositionTable.MISS, table.probe(4 * bucketStride));
+        assertEquals(1, table.hashfull(), "Only the entry of the current search counts.");
+    }
+
+    @Test
+    void testSearchReusesTable() {
+        AlphaBetaMinMax search = new AlphaBetaMinMax(new TranspositionTable(4));
+        Board board = new Board();
+        long first = search.search(board, 5, -1).nodes();
+        long second = search.search(board, 5, -1).nodes();
+        assertTrue(second < first, "The second search finds the first one's results.");
+        assertTrue(search.getTableHitRate() > 0.0);
+    }
+}
@@ -0,0 +1,103 @@
+package chess.ai_player.move_ordering;
+
+import chess.ai_player.move_generation.MoveGenerator;
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.PackedMove;
+import chess.board.enums.PieceColor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovePickerTest {
+
+    // White can take the d5 queen with the c3 knight or the e4 pawn, and the b6 pawn with the b1 rook
+    private static final String CAPTURES = "4k3/8/1p6/3q4/4P3/2N5/8/1R2K3 w - - 0 1";
+
+    private static List<String> pickAll(String fen, int hashMove, HistoryTables tables, int ply) {
+        Board board = new Board();
+        board.readFEN(fen);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegal(board, moves);
+
+        MovePicker picker = new MovePicker();
+        picker.init(board, moves, hashMove, tables, board.getCurrentPlayer(), ply, PackedMove.NO_MOVE);
+        List<String> picked = new ArrayList<>();
+        for (int move = picker.next(); move != PackedMove.NO_MOVE; move = picker.next()) {
+            picked.add(PackedMove.toUci(move));
+        }
+        assertEquals(moves.size(), picked.size());
+        assertEquals(moves.size(), picker.picked());
+        return picked;
+    }
+
+    private static int find(String fen, String uci) {
+        Board board = new Board();
+        board.readFEN(fen);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegal(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (PackedMove.toUci(moves.get(i)).equals(uci)) return moves.get(i);
+        }
+        throw new AssertionError(uci + " is not legal");
+    }
+
+    @Test
+    void testCapturesByMostValuableVictimThenLeastValuableAttacker() {
+        List<String> picked = pickAll(CAPTURES, PackedMove.NO_MOVE, new HistoryTables(8), 0);
+        assertEquals(List.of("e4d5", "c3d5", "b1b6"), picked.subList(0, 3));
+    }
+
+    @Test
+    void testHashMoveComesFirst() {
+        int hashMove = find(CAPTURES, "e1f2");
+        List<String> picked = pickAll(CAPTURES, hashMove, new HistoryTables(8), 0);
+        assertEquals("e1f2", picked.get(0));
+        assertEquals("e4d5", picked.get(1));
+    }
+
+    @Test
+    void testKillersBeforeOtherQuietMoves() {
+        HistoryTables tables = new HistoryTables(8);
+        MoveList none = new MoveList();
+        tables.updateQuiet(PieceColor.WHITE, 2, find(CAPTURES, "c3b5"), 3, PackedMove.NO_MOVE, none, 0);
+        tables.updateQuiet(PieceColor.WHITE, 2, find(CAPTURES, "e1f1"), 3, PackedMove.NO_MOVE, none, 0);
+
+        List<String> picked = pickAll(CAPTURES, PackedMove.NO_MOVE, tables, 2);
+        assertEquals(List.of("e1f1", "c3b5"), picked.subList(3, 5), "Newest killer first, after the captures.");
+
+        List<String> otherPly = pickAll(CAPTURES, PackedMove.NO_MOVE, new HistoryTables(8), 3);
+        assertNotEquals("e1f1", otherPly.get(3));
+    }
+
+    @Test
+    void testLosingCapturesComeLast() {
+        // The queen defends b7, taking the pawn with the rook loses the exchange
+        List<String> picked = pickAll("4k3/1p6/8/3q4/4P3/2N5/8/1R2K3 w - - 0 1", PackedMove.NO_MOVE,
+                new HistoryTables(8), 0);
+        assertEquals(List.of("e4d5", "c3d5"), picked.subList(0, 2));
+        assertEquals("b1b7", picked.get(picked.size() - 1));
+    }
+
+    @Test
+    void testHistoryOrdersQuietMovesAndFades() {
+        HistoryTables tables = new HistoryTables(8);
+        MoveList moves = new MoveList();
+        int tried = find(CAPTURES, "b1a1");
+        int cutoff = find(CAPTURES, "b1c1");
+        moves.add(tried);
+        moves.add(cutoff);
+        tables.updateQuiet(PieceColor.WHITE, 0, cutoff, 6, PackedMove.NO_MOVE, moves, 1);
+
+        assertEquals(36, tables.history(PieceColor.WHITE, cutoff));
+        assertTrue(tables.history(PieceColor.WHITE, tried) < 0, "Quiet moves searched before the cutoff lose history.");
+        assertEquals(0, tables.history(PieceColor.BLACK, cutoff));
+
+        tables.newSearch();
+        assertEquals(18, tables.history(PieceColor.WHITE, cutoff));
+        assertEquals(PackedMove.NO_MOVE, tables.killer(0, 0));
+    }
+}
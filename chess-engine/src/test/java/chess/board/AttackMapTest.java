@@ -0,0 +1,72 @@
+package chess.board;
+
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttackMapTest {
+
+    @Test
+    void testAttacksPerSideAndPieceType() {
+        Board board = new Board();
+        AttackMap attackMap = board.getAttackMap();
+
+        // The white pawns attack the whole third rank, the knights add nothing outside of it
+        assertEquals(0x0000000000FF0000L, attackMap.attacks(PieceType.PAWN, PieceColor.WHITE));
+        assertTrue(attackMap.isAttacked(21, PieceColor.WHITE), "f3 is attacked by the g1 knight.");
+        assertFalse(attackMap.isAttacked(28, PieceColor.WHITE), "e4 is not attacked in the initial position.");
+        assertEquals(0L, attackMap.attacksFrom(3) & ~0x1C1CL, "The d1 queen is blocked by its own pieces.");
+        assertEquals(Long.bitCount(attackMap.attacks(PieceColor.WHITE)), Long.bitCount(attackMap.attacks(PieceColor.BLACK)));
+    }
+
+    @Test
+    void testCachedPerPositionAndRecomputedAfterMove() {
+        Board board = new Board();
+        AttackMap attackMap = board.getAttackMap();
+        assertSame(attackMap, board.getAttackMap());
+        assertFalse(attackMap.isAttacked(33, PieceColor.WHITE));
+
+        board.makeMove(PackedMove.encode(12, 28, null, PackedMove.DOUBLE_PAWN_PUSH));
+        assertTrue(board.getAttackMap().isAttacked(33, PieceColor.WHITE), "After e4 the f1 bishop attacks b5.");
+
+        board.unmakeMove();
+        assertFalse(board.getAttackMap().isAttacked(33, PieceColor.WHITE));
+    }
+
+    @Test
+    void testRecomputedAfterDirectBitboardChange() {
+        Board board = new Board();
+        assertFalse(board.getAttackMap().isAttacked(44, PieceColor.WHITE));
+
+        board.getBitboard().placePieceOnSquare(27, PieceType.KNIGHT, PieceColor.WHITE);
+        assertTrue(board.getAttackMap().isAttacked(44, PieceColor.WHITE), "The d4 knight attacks e6.");
+    }
+
+    @Test
+    void testAttackersToAndKingXRay() {
+        Board board = new Board();
+        board.readFEN("4k3/8/8/8/4r3/8/4K3/5R2 w - - 0 1");
+        AttackMap attackMap = board.getAttackMap();
+
+        assertEquals(1L << 28, attackMap.attackersTo(board, 12, PieceColor.BLACK), "The e4 rook checks the king.");
+        assertEquals(1L << 5, attackMap.attackersTo(board, 29, PieceColor.WHITE), "The f1 rook attacks f4.");
+        // The rook looks through the white king, so retreating along the e-file stays attacked
+        assertTrue(attackMap.isAttacked(4, PieceColor.BLACK), "e1 behind the checked king is attacked.");
+        assertFalse(attackMap.isAttacked(3, PieceColor.BLACK));
+    }
+
+    @Test
+    void testMobilityAndKingZoneAttacks() {
+        Board board = new Board();
+        board.readFEN("4k3/8/2p5/8/3N4/8/8/4K3 w - - 0 1");
+        AttackMap attackMap = board.getAttackMap();
+
+        assertEquals(7, attackMap.mobility(PieceType.KNIGHT, PieceColor.WHITE), "b5 is attacked by the c6 pawn.");
+        assertEquals(0, attackMap.mobility(PieceType.KING, PieceColor.WHITE));
+        assertEquals(1, attackMap.kingZoneAttacks(PieceType.KNIGHT, PieceColor.WHITE), "e6 is in front of the e8 king.");
+        assertEquals(1, attackMap.kingAttackers(PieceColor.WHITE));
+        assertEquals(0, attackMap.kingAttackers(PieceColor.BLACK));
+    }
+}
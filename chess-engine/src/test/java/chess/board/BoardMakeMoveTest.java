@@ -0,0 +1,118 @@
+package chess.board;
+
+import chess.board.enums.GamePhase;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardMakeMoveTest {
+
+    private static void assertRestoredAfterUnmake(String fen, int move) {
+        Board board = new Board();
+        board.readFEN(fen);
+        Board reference = new Board();
+        reference.readFEN(fen);
+        long key = board.getZobristKey();
+
+        board.makeMove(move);
+        assertEquals(board.computeZobristKey(), board.getZobristKey(), "Incremental key should match a recompute after the move.");
+        board.unmakeMove();
+
+        assertEquals(reference, board, "Unmake should restore the position.");
+        assertEquals(key, board.getZobristKey(), "Unmake should restore the key.");
+        assertEquals(0, board.getHistory().size());
+    }
+
+    @Test
+    void testDoublePawnPushSetsEnPassantSquare() {
+        Board board = new Board();
+        board.makeMove(PackedMove.encode(12, 28, null, PackedMove.DOUBLE_PAWN_PUSH)); // e2e4
+
+        assertEquals(20, board.getEnPassantSquare(), "e3 should be the en passant square.");
+        assertEquals(PieceColor.BLACK, board.getCurrentPlayer());
+        assertEquals(PieceType.PAWN, board.getPieceTypeAtSquare(28));
+        assertEquals(Piece.EMPTY, board.pieceAt(12));
+        assertEquals(board.computeZobristKey(), board.getZobristKey());
+    }
+
+    @Test
+    void testCaptureAndUnmake() {
+        assertRestoredAfterUnmake("rnbqkbnr/ppp1pppp/8/3p4/4P3/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 2",
+                PackedMove.encode(28, 35, null, PackedMove.NORMAL)); // exd5
+    }
+
+    @Test
+    void testEnPassantCaptureRemovesThePawnBehind() {
+        Board board = new Board();
+        board.readFEN("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3");
+        board.makeMove(PackedMove.encode(36, 45, null, PackedMove.EN_PASSANT)); // exf6
+
+        assertEquals(Piece.EMPTY, board.pieceAt(37), "The captured pawn on f5 should be gone.");
+        assertEquals(PieceType.PAWN, board.getPieceTypeAtSquare(45));
+
+        assertRestoredAfterUnmake("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+                PackedMove.encode(36, 45, null, PackedMove.EN_PASSANT));
+    }
+
+    @Test
+    void testCastlingMovesTheRookAndClearsRights() {
+        String fen = "r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1";
+        Board board = new Board();
+        board.readFEN(fen);
+        board.makeMove(PackedMove.encode(4, 6, null, PackedMove.CASTLING)); // O-O
+
+        assertEquals(Piece.code(PieceType.ROOK, PieceColor.WHITE), board.pieceAt(5), "The rook should land on f1.");
+        assertEquals(Piece.EMPTY, board.pieceAt(7));
+        assertEquals(Board.CASTLE_BLACK_KING_SIDE | Board.CASTLE_BLACK_QUEEN_SIDE, board.getCastlingRights());
+
+        assertRestoredAfterUnmake(fen, PackedMove.encode(4, 2, null, PackedMove.CASTLING)); // O-O-O
+        assertRestoredAfterUnmake("r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 0 1", PackedMove.encode(60, 62, null, PackedMove.CASTLING));
+    }
+
+    @Test
+    void testPromotionCaptureAndUnmake() {
+        String fen = "1r2k3/P7/8/8/8/8/8/4K3 w - - 0 1";
+        Board board = new Board();
+        board.readFEN(fen);
+        board.makeMove(PackedMove.encode(48, 57, PieceType.QUEEN, PackedMove.NORMAL)); // axb8=Q
+
+        assertEquals(Piece.code(PieceType.QUEEN, PieceColor.WHITE), board.pieceAt(57));
+        assertEquals(0L, board.getBitboard().getBlackRooks());
+
+        assertRestoredAfterUnmake(fen, PackedMove.encode(48, 57, PieceType.QUEEN, PackedMove.NORMAL));
+    }
+
+    @Test
+    void testNullMovePassesTheTurnAndUnmakes() {
+        String fen = "rnbqkbnr/ppp1pppp/8/3p4/4P3/8/PPPP1PPP/RNBQKBNR w KQkq d6 5 2";
+        Board board = new Board();
+        board.readFEN(fen);
+        Board reference = new Board();
+        reference.readFEN(fen);
+        long key = board.getZobristKey();
+
+        board.makeNullMove();
+        assertEquals(PieceColor.BLACK, board.getCurrentPlayer());
+        assertEquals(-1, board.getEnPassantSquare(), "Passing gives up the en passant capture.");
+        assertEquals(0, board.getHalfmoveClock());
+        assertEquals(board.computeZobristKey(), board.getZobristKey());
+
+        board.unmakeNullMove();
+        assertEquals(reference, board, "Unmake should restore the position.");
+        assertEquals(key, board.getZobristKey());
+        assertEquals(0, board.getHistory().size());
+    }
+
+    @Test
+    void testGamePhaseFollowsThePiecesLeft() {
+        Board board = new Board();
+        assertEquals(GamePhase.MID_GAME, board.getGamePhase());
+
+        board.readFEN("4k3/pp3ppp/2b5/8/8/4N3/PP3PPP/3RK3 w - - 0 1");
+        assertEquals(GamePhase.END_GAME, board.getGamePhase(), "A rook and a minor piece against a minor piece is an endgame.");
+        board.readFEN("3qk3/pp3ppp/8/8/8/8/PP3PPP/3QK3 w - - 0 1");
+        assertEquals(GamePhase.MID_GAME, board.getGamePhase(), "Queens alone still make a middlegame.");
+    }
+}
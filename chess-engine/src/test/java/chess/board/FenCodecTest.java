@@ -0,0 +1,135 @@
+package chess.board;
+
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FenCodecTest {
+
+    private static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    @Test
+    void testInitialBoardWritesStartPosition() {
+        assertEquals(START, FenCodec.toFEN(new Board()));
+    }
+
+    @Test
+    void testRoundTripKeepsFullState() {
+        String[] fens = {
+                "rnbqkbnr/pp1ppppp/8/2p5/4P3/8/PPPP1PPP/RNBQKBNR w KQkq c6 0 2",
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R b Kq - 12 37",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+        };
+        Board board = new Board();
+        for (String fen : fens) {
+            board.readFEN(fen);
+            assertEquals(fen, FenCodec.toFEN(board));
+        }
+    }
+
+    @Test
+    void testReadsStateIntoBoard() {
+        Board board = new Board();
+        board.readFEN("rnbqkbnr/ppp1pppp/8/8/3pP3/8/PPPP1PPP/RNBQKBNR b Qk e3 0 3");
+
+        assertEquals(PieceColor.BLACK, board.getCurrentPlayer());
+        assertEquals(Board.CASTLE_WHITE_QUEEN_SIDE | Board.CASTLE_BLACK_KING_SIDE, board.getCastlingRights());
+        assertEquals(20, board.getEnPassantSquare());
+        assertEquals(0, board.getHalfmoveClock());
+        assertEquals(3, board.getFullmoveNumber());
+        assertEquals(Piece.code(PieceType.PAWN, PieceColor.BLACK), board.getBitboard().pieceAt(27));
+    }
+
+    @Test
+    void testMissingFieldsUseDefaults() {
+        Board board = new Board();
+        board.readFEN("4k3/8/8/8/8/8/8/4K3");
+        assertEquals("4k3/8/8/8/8/8/8/4K3 w - - 0 1", FenCodec.toFEN(board));
+    }
+
+    @Test
+    void testWritesIntoReusedBuilder() {
+        Board board = new Board();
+        StringBuilder out = new StringBuilder("stale");
+        out.setLength(0);
+        assertSame(out, FenCodec.write(board, out));
+        assertEquals(START, out.toString());
+
+        out.setLength(0);
+        board.makeMove(PackedMove.encode(12, 28, null, PackedMove.DOUBLE_PAWN_PUSH));
+        FenCodec.write(board, out);
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", out.toString());
+    }
+
+    @Test
+    void testRejectsUnknownPiece() {
+        assertThrows(IllegalArgumentException.class, () -> new Board().readFEN("4k3/8/8/8/8/8/8/4X3 w - - 0 1"));
+    }
+
+    @Test
+    void testRejectsMalformedPlacement() {
+        String[] placements = {
+                "4k3p/8/8/8/8/8/8/4K3", // 9 files
+                "4k3/8/8/8/8/8/8/4K3R", // wraps onto the next rank
+                "4k3/8/8/8/8/8/8/4K4", // 9 files of digits
+                "4k3/8/8/8/8/8/8/4K2", // 7 files
+                "4k3/8/8/8/8/8/8/4K3/8", // 9 ranks
+                "4k3/8/8/8/8/8/4K3", // 7 ranks
+        };
+        for (String placement : placements) {
+            assertThrows(IllegalArgumentException.class, () -> new Board().readFEN(placement + " w - - 0 1"), placement);
+        }
+    }
+
+    @Test
+    void testRejectsInvalidEnPassantSquare() {
+        for (String square : new String[]{"z9", "e4", "e", "e33"}) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Board().readFEN("4k3/8/8/8/4P3/8/8/4K3 b - " + square + " 0 1"), square);
+        }
+        Board board = new Board();
+        board.readFEN("4k3/8/8/8/4P3/8/8/4K3 b - e3 0 1");
+        assertEquals(20, board.getEnPassantSquare());
+    }
+
+    @Test
+    void testEnPassantSquareNeedsThePawnThatJustMoved() {
+        // With white to move the square has to be on the sixth rank, d2xe3 would take white's own pawn
+        assertThrows(IllegalArgumentException.class, () -> Board.fromFEN("4k3/8/8/8/8/8/3PP3/4K3 w - e3 0 1"));
+        // The pawn is still on its starting square
+        assertThrows(IllegalArgumentException.class, () -> Board.fromFEN("4k3/8/8/8/8/8/3PP3/4K3 b - e3 0 1"));
+        // A black pawn on e4 did not come from e2
+        assertThrows(IllegalArgumentException.class, () -> Board.fromFEN("4k3/8/8/8/4p3/8/8/4K3 b - e3 0 1"));
+        assertEquals(44, Board.fromFEN("4k3/8/8/4p3/3P4/8/8/4K3 w - e6 0 2").getEnPassantSquare());
+    }
+
+    @Test
+    void testInvalidFenLeavesTheBoardUnchanged() {
+        Board board = Board.fromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R b Kq - 12 37");
+        String fen = FenCodec.toFEN(board);
+        long key = board.getZobristKey();
+        for (String invalid : new String[]{"4k3/8/8/8/8/8/8/4K3 w - e3 0 1", "4k3/8/8/8/8/8/8/4KK2 b - - 0 1"}) {
+            assertThrows(IllegalArgumentException.class, () -> board.readFEN(invalid), invalid);
+            assertEquals(fen, FenCodec.toFEN(board));
+            assertEquals(key, board.getZobristKey());
+        }
+    }
+
+    @Test
+    void testRequiresOneKingPerSide() {
+        assertThrows(IllegalArgumentException.class, () -> new Board().readFEN("8/8/8/8/8/8/8/8 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> new Board().readFEN("4k3/8/8/8/8/8/8/8 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> new Board().readFEN("4k3/8/8/8/8/8/8/K3K3 w - - 0 1"));
+    }
+
+    @Test
+    void testReadKeepsZobristKeyConsistent() {
+        Board board = new Board();
+        board.makeMove(PackedMove.encode(12, 28, null, PackedMove.DOUBLE_PAWN_PUSH));
+        Board loaded = new Board();
+        loaded.readFEN(FenCodec.toFEN(board));
+        assertEquals(board.getZobristKey(), loaded.getZobristKey());
+    }
+}
@@ -0,0 +1,66 @@
+package chess.board;
+
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedMoveTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        int move = PackedMove.encode(52, 61, Piece.code(PieceType.PAWN, PieceColor.WHITE),
+                Piece.code(PieceType.BISHOP, PieceColor.BLACK), PieceType.KNIGHT.ordinal(), PackedMove.NORMAL);
+
+        assertEquals(52, PackedMove.from(move));
+        assertEquals(61, PackedMove.to(move));
+        assertEquals(Piece.code(PieceType.PAWN, PieceColor.WHITE), PackedMove.piece(move));
+        assertEquals(PieceType.BISHOP, PackedMove.capturedType(move));
+        assertEquals(PieceType.KNIGHT, PackedMove.promotion(move));
+        assertEquals(PackedMove.NORMAL, PackedMove.flag(move));
+        assertTrue(PackedMove.isCapture(move));
+        assertEquals("e7f8n", PackedMove.toUci(move));
+    }
+
+    @Test
+    void testQuietMoveHasNoCaptureOrPromotion() {
+        int move = PackedMove.encode(12, 28, Piece.code(PieceType.PAWN, PieceColor.WHITE), Piece.EMPTY, 0, PackedMove.DOUBLE_PAWN_PUSH);
+
+        assertFalse(PackedMove.isCapture(move));
+        assertFalse(PackedMove.isPromotion(move));
+        assertNull(PackedMove.capturedType(move));
+        assertEquals(PackedMove.DOUBLE_PAWN_PUSH, PackedMove.flag(move));
+        assertTrue(PackedMove.sameMove(move, PackedMove.encode(12, 28, null, PackedMove.NORMAL)));
+    }
+
+    @Test
+    void testBridgeToAndFromMove() {
+        Board board = new Board();
+        board.readFEN("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3");
+
+        Move move = new Move(36, 45, PieceType.PAWN, PieceType.PAWN, PieceColor.WHITE);
+        int packed = PackedMove.fromMove(board, move);
+        assertEquals(PackedMove.EN_PASSANT, PackedMove.flag(packed), "A pawn moving onto the en passant square captures en passant.");
+
+        Move back = PackedMove.toMove(packed);
+        assertEquals(36, back.getFromSquare());
+        assertEquals(45, back.getToSquare());
+        assertEquals(PieceType.PAWN, back.getPieceType());
+        assertEquals(PieceType.PAWN, back.getCapturedPieceType());
+        assertEquals(PieceColor.WHITE, back.getPieceColor());
+    }
+
+    @Test
+    void testMoveListIsReusable() {
+        MoveList list = new MoveList();
+        list.add(PackedMove.encode(12, 28, null, PackedMove.DOUBLE_PAWN_PUSH));
+        list.add(PackedMove.encode(6, 21, null, PackedMove.NORMAL));
+        assertEquals(2, list.size());
+        assertTrue(list.contains(PackedMove.encode(6, 21, null, PackedMove.NORMAL)));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.contains(PackedMove.encode(6, 21, null, PackedMove.NORMAL)));
+    }
+}
@@ -0,0 +1,85 @@
+package chess.board;
+
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+
+    @Test
+    void testIncrementalKeyMatchesRecompute() {
+        Board board = new Board();
+        assertEquals(board.computeZobristKey(), board.getZobristKey(), "Initial key should match a full recompute.");
+
+        board.getBitboard().removePieceFromSquare(12, PieceType.PAWN, PieceColor.WHITE);
+        board.getBitboard().placePieceOnSquare(28, PieceType.PAWN, PieceColor.WHITE);
+        board.updateGameState(PieceColor.BLACK, false, false);
+
+        assertEquals(board.computeZobristKey(), board.getZobristKey(), "Key should match a full recompute after a move.");
+    }
+
+    @Test
+    void testTranspositionsShareTheKey() {
+        Board first = new Board();
+        first.getBitboard().removePieceFromSquare(1, PieceType.KNIGHT, PieceColor.WHITE);
+        first.getBitboard().placePieceOnSquare(18, PieceType.KNIGHT, PieceColor.WHITE);
+        first.getBitboard().removePieceFromSquare(6, PieceType.KNIGHT, PieceColor.WHITE);
+        first.getBitboard().placePieceOnSquare(21, PieceType.KNIGHT, PieceColor.WHITE);
+
+        Board second = new Board();
+        second.getBitboard().removePieceFromSquare(6, PieceType.KNIGHT, PieceColor.WHITE);
+        second.getBitboard().placePieceOnSquare(21, PieceType.KNIGHT, PieceColor.WHITE);
+        second.getBitboard().removePieceFromSquare(1, PieceType.KNIGHT, PieceColor.WHITE);
+        second.getBitboard().placePieceOnSquare(18, PieceType.KNIGHT, PieceColor.WHITE);
+
+        assertEquals(first.getZobristKey(), second.getZobristKey(), "The same position reached by different move orders should hash the same.");
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void testSideToMoveChangesTheKey() {
+        Board board = new Board();
+        long whiteToMove = board.getZobristKey();
+
+        board.updateGameState(PieceColor.BLACK, false, false);
+        assertNotEquals(whiteToMove, board.getZobristKey(), "Side to move should be part of the key.");
+
+        board.updateGameState(PieceColor.WHITE, false, false);
+        assertEquals(whiteToMove, board.getZobristKey(), "Toggling the side back should restore the key.");
+    }
+
+    @Test
+    void testPawnKeyOnlyChangesWithThePawns() {
+        Board board = new Board();
+        long pawnKey = board.getBitboard().getPawnKey();
+        assertNotEquals(0L, pawnKey);
+
+        board.getBitboard().removePieceFromSquare(6, PieceType.KNIGHT, PieceColor.WHITE);
+        board.getBitboard().placePieceOnSquare(21, PieceType.KNIGHT, PieceColor.WHITE);
+        assertEquals(pawnKey, board.getBitboard().getPawnKey(), "A knight move keeps the pawn key.");
+
+        board.getBitboard().removePieceFromSquare(12, PieceType.PAWN, PieceColor.WHITE);
+        board.getBitboard().placePieceOnSquare(28, PieceType.PAWN, PieceColor.WHITE);
+        Board reference = new Board();
+        reference.readFEN("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1");
+        assertNotEquals(pawnKey, board.getBitboard().getPawnKey());
+        assertEquals(reference.getBitboard().getPawnKey(), board.getBitboard().getPawnKey());
+    }
+
+    @Test
+    void testPawnKeyFollowsTheBitboardSetters() {
+        Board board = new Board();
+        board.getBitboard().setWhitePawns(0L);
+        board.getBitboard().setBlackPawns(1L << 36);
+
+        Board fresh = new Board();
+        fresh.readFEN("rnbqkbnr/8/8/4p3/8/8/8/RNBQKBNR w KQkq - 0 1");
+        assertEquals(fresh.getBitboard().getPawnKey(), board.getBitboard().getPawnKey());
+
+        board.getBitboard().setBlackPawns(0L);
+        assertEquals(0L, board.getBitboard().getPawnKey(), "No pawns left, no pawn key.");
+    }
+}
@@ -0,0 +1,68 @@
+package chess.engine.evaluation;
+
+import chess.ai_player.move_generation.MoveGenerator;
+import chess.board.Board;
+import chess.board.MoveList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingTest {
+
+    private static final String[] POSITIONS = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+    };
+
+    /**
+     * Walks all move sequences up to the given depth, comparing the incremental evaluation to the full one at
+     * every position and after every unmake.
+     */
+    private static void assertIncrementalMatchesFull(Board board, int depth) {
+        assertEquals(Rating.rating(board), Rating.evaluate(board));
+        if (depth == 0) return;
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegal(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            assertIncrementalMatchesFull(board, depth - 1);
+            board.unmakeMove();
+        }
+    }
+
+    @Test
+    void testScorePacksBothHalves() {
+        int score = Score.of(-35, 120) + Score.of(10, -300);
+        assertEquals(-25, Score.midGame(score));
+        assertEquals(-180, Score.endGame(score));
+        assertEquals(25, Score.midGame(-score));
+        assertEquals(180, Score.endGame(-score));
+    }
+
+    @Test
+    void testIncrementalEvaluationMatchesFullRecompute() {
+        for (String fen : POSITIONS) {
+            assertIncrementalMatchesFull(Board.fromFEN(fen), 3);
+        }
+    }
+
+    @Test
+    void testEvaluationIsRelativeToTheSideToMove() {
+        Board white = Board.fromFEN("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+        Board black = Board.fromFEN("4k3/8/8/3q4/8/8/8/3RK3 b - - 0 1");
+
+        assertTrue(white.getBitboard().getPieceSquareScore() < 0, "Black is a queen for a rook up.");
+        assertTrue(Rating.evaluate(white) < 0);
+        assertEquals(-Rating.evaluate(white), Rating.evaluate(black));
+    }
+
+    @Test
+    void testEvaluationIsTaperedByThePhase() {
+        // Only pawns and kings: the endgame value of the e2 pawn counts in full, the kings mirror each other
+        assertEquals(94 + 13, Rating.evaluate(Board.fromFEN("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1")));
+        assertEquals(0, Board.fromFEN("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1").getBitboard().getGamePhase());
+        assertEquals(24, new Board().getBitboard().getGamePhase());
+    }
+}
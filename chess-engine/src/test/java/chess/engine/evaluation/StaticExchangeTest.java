@@ -0,0 +1,57 @@
+package chess.engine.evaluation;
+
+import chess.ai_player.move_generation.MoveGenerator;
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.PackedMove;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticExchangeTest {
+
+    private static int see(String fen, String uci) {
+        Board board = new Board();
+        board.readFEN(fen);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegal(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (PackedMove.toUci(moves.get(i)).equals(uci)) return StaticExchange.see(board, moves.get(i));
+        }
+        throw new AssertionError(uci + " is not legal");
+    }
+
+    @Test
+    void testUndefendedPieceIsWon() {
+        assertEquals(1025, see("4k3/8/8/3q4/4P3/8/8/4K3 w - - 0 1", "e4d5"));
+    }
+
+    @Test
+    void testDefendedPawnLosesTheQueen() {
+        assertEquals(82 - 1025, see("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1", "d1d5"));
+    }
+
+    @Test
+    void testXrayRookBehindCapturerWinsThePawn() {
+        // Rxe5 Rxe5 Rxe5: the e1 rook only sees e5 once the e2 rook has left
+        assertEquals(82, see("4r1k1/8/8/4p3/8/8/4R3/4R1K1 w - - 0 1", "e2e5"));
+        assertEquals(82 - 477, see("4r1k1/8/8/4p3/8/8/4R3/6K1 w - - 0 1", "e2e5"));
+    }
+
+    @Test
+    void testDefenderStopsWhenRecapturingLoses() {
+        // Qxd5 would lose the queen to cxd5, so black lets the pawn go
+        assertEquals(82, see("3qk3/8/8/3p4/2P5/8/8/3RK3 w - - 0 1", "d1d5"));
+    }
+
+    @Test
+    void testKingOnlyRecapturesUndefendedPiece() {
+        assertEquals(82, see("8/8/8/8/8/2k1K3/3p4/3R4 w - - 0 1", "d1d2"));
+        assertEquals(82 - 477, see("8/8/8/8/8/2k4K/3p4/3R4 w - - 0 1", "d1d2"));
+    }
+
+    @Test
+    void testEnPassant() {
+        assertEquals(82, see("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", "e5d6"));
+    }
+}
@@ -0,0 +1,80 @@
+package chess.engine.evaluation.pawn_structure;
+
+import chess.ai_player.AlphaBetaMinMax;
+import chess.ai_player.TranspositionTable;
+import chess.board.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static chess.engine.evaluation.pawn_structure.PawnStructureEvaluation.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PawnStructureEvaluationTest {
+
+    private static long squares(int... squares) {
+        long bitboard = 0L;
+        for (int square : squares) bitboard |= 1L << square;
+        return bitboard;
+    }
+
+    @Test
+    void testDoubledAndIsolatedPawns() {
+        // e2 and e3: the front pawn is passed, both are isolated
+        assertEquals(DOUBLED + 2 * ISOLATED + PASSED[2], evaluate(squares(12, 20), 0L));
+    }
+
+    @Test
+    void testBackwardPawn() {
+        // White d3 and e4 against black c5: d3 cannot be defended on d4, which c5 attacks; e4 is passed and
+        // the isolated c5 is not counted as backward as well
+        assertEquals(BACKWARD + PASSED[3] - ISOLATED, evaluate(squares(19, 28), squares(34)));
+    }
+
+    @Test
+    void testPassedPawnsGrowWithTheirRankFromTheirSide() {
+        // Black a2
+        assertEquals(-(PASSED[6] + ISOLATED), evaluate(0L, squares(8)));
+        assertTrue(PASSED[6] > PASSED[5] && PASSED[5] > PASSED[1]);
+        // An enemy pawn in front on an adjacent file stops a passer
+        assertEquals(0, evaluate(squares(8), squares(49)), "a2 and b7 are both isolated and not passed.");
+    }
+
+    @Test
+    void testMirroredStructuresScoreOpposite() {
+        Random random = new Random(7);
+        long middle = 0x00FFFFFFFFFFFF00L;
+        for (int i = 0; i < 100; i++) {
+            long white = random.nextLong() & random.nextLong() & middle;
+            long black = random.nextLong() & random.nextLong() & middle & ~white;
+            assertEquals(evaluate(white, black), -evaluate(Long.reverseBytes(black), Long.reverseBytes(white)));
+        }
+    }
+
+    @Test
+    void testKingShield() {
+        assertEquals(0, kingShield(Board.fromFEN("6k1/5ppp/8/8/8/8/5PPP/6K1 w - - 0 1").getBitboard()));
+        // h2 is gone, h3 still covers the king from the second rank
+        assertEquals(-SHIELD_NEAR, kingShield(Board.fromFEN("6k1/5ppp/8/8/8/7P/5PP1/6K1 w - - 0 1").getBitboard()));
+    }
+
+    @Test
+    void testPawnHashTableCachesTheStructure() {
+        PawnHashTable pawnTable = new PawnHashTable(16);
+        Board board = Board.fromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        int score = pawnTable.probe(board.getBitboard());
+        assertEquals(evaluate(board.getBitboard().getWhitePawns(), board.getBitboard().getBlackPawns()), score);
+        assertEquals(score, pawnTable.probe(board.getBitboard()));
+        assertEquals(2, pawnTable.getProbes());
+        assertEquals(1, pawnTable.getHits());
+    }
+
+    @Test
+    void testSearchMostlyHitsThePawnHashTable() {
+        AlphaBetaMinMax search = new AlphaBetaMinMax(new TranspositionTable(4));
+        search.search(Board.fromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"), 9, -1);
+        PawnHashTable pawnTable = search.getPawnTable();
+        assertTrue(pawnTable.getHits() > 0.9 * pawnTable.getProbes(),
+                pawnTable.getHits() + " of " + pawnTable.getProbes() + " probes hit.");
+    }
+}
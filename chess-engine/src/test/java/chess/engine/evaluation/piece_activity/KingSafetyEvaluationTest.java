@@ -0,0 +1,30 @@
+package chess.engine.evaluation.piece_activity;
+
+import chess.board.Board;
+import chess.board.enums.PieceColor;
+import chess.engine.evaluation.Rating;
+import chess.engine.evaluation.Score;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KingSafetyEvaluationTest {
+
+    @Test
+    void testCoordinatedAttackOnTheKing() {
+        // The h5 queen attacks g6, h6, f7 and h7, the f1 rook f6 and f7: 4 * 5 + 2 * 3 attack units
+        Board board = Board.fromFEN("6k1/5ppp/8/7Q/8/8/8/K4R2 w - - 0 1");
+        assertEquals(Score.of(KingSafetyEvaluation.SAFETY_TABLE[26], 0), KingSafetyEvaluation.evaluate(board.getAttackMap()));
+
+        // The penalty fades with the pieces on the board: a queen and a rook are a quarter of the full phase
+        board.readFEN("6k1/5ppp/8/7Q/8/8/8/K4R2 b - - 0 1");
+        assertEquals(-KingSafetyEvaluation.SAFETY_TABLE[26] / 4, Rating.rateAttackingPosition(board));
+    }
+
+    @Test
+    void testSingleAttackerIsNoDanger() {
+        Board board = Board.fromFEN("6k1/5ppp/8/7Q/8/8/8/K7 w - - 0 1");
+        assertEquals(1, board.getAttackMap().kingAttackers(PieceColor.WHITE));
+        assertEquals(0, KingSafetyEvaluation.evaluate(board.getAttackMap()));
+    }
+}
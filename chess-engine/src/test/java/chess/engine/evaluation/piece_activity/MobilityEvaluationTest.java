@@ -0,0 +1,32 @@
+package chess.engine.evaluation.piece_activity;
+
+import chess.board.Board;
+import chess.engine.evaluation.Rating;
+import chess.engine.evaluation.Score;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MobilityEvaluationTest {
+
+    private static int mobility(Board board) {
+        return MobilityEvaluation.evaluate(board.getAttackMap(), board.getBitboard());
+    }
+
+    @Test
+    void testCentralPiecesAreMoreMobile() {
+        assertEquals(0, mobility(new Board()));
+        // A knight on d4 reaches 8 squares, on a1 only 2, against a baseline of 4
+        assertEquals(Score.of(16, 16), mobility(Board.fromFEN("4k3/8/8/8/3N4/8/8/4K3 w - - 0 1")));
+        assertEquals(Score.of(-8, -8), mobility(Board.fromFEN("4k3/8/8/8/8/8/8/N3K3 w - - 0 1")));
+    }
+
+    @Test
+    void testRatingIsRelativeToTheSideToMove() {
+        Board white = Board.fromFEN("4k3/8/8/8/3N4/8/8/4K3 w - - 0 1");
+        Board black = Board.fromFEN("4k3/8/8/8/3N4/8/8/4K3 b - - 0 1");
+
+        assertTrue(Rating.rateMoveAbilityPosition(white) > 0);
+        assertEquals(-Rating.rateMoveAbilityPosition(white), Rating.rateMoveAbilityPosition(black));
+    }
+}
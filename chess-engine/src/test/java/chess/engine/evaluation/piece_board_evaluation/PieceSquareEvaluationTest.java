@@ -0,0 +1,57 @@
+package chess.engine.evaluation.piece_board_evaluation;
+
+import chess.board.Bitboard;
+import chess.board.Board;
+import chess.board.Piece;
+import chess.engine.evaluation.Rating;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceSquareEvaluationTest {
+
+    @Test
+    void testBitboardWalkMatchesSquareScan() {
+        Board board = Board.fromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        Bitboard bitboard = board.getBitboard();
+        for (int code = 0; code < 12; code++) {
+            int expected = 0;
+            for (int square = 0; square < 64; square++) {
+                if (board.pieceAt(square) == code) expected += PieceSquareTables.score(code, square);
+            }
+            assertEquals(expected, PieceSquareEvaluation.evaluatePiecePosition(bitboard, code), Piece.typeOf(code).name());
+        }
+        assertTrue(PieceSquareEvaluation.isConsistent(bitboard));
+        assertEquals(Rating.evaluate(board), PieceSquareEvaluation.evaluate(board));
+    }
+
+    @Test
+    void testBlackPiecesCountForBlack() {
+        // Only black has a knight, so the side to move with the knight is better off
+        Board white = Board.fromFEN("4k3/8/8/3n4/8/8/8/4K3 w - - 0 1");
+        Board black = Board.fromFEN("4k3/8/8/3n4/8/8/8/4K3 b - - 0 1");
+
+        assertTrue(Rating.rating(white) < 0);
+        assertEquals(-Rating.rating(white), Rating.rating(black));
+        assertEquals(1, PieceSquareEvaluation.gamePhase(white.getBitboard()));
+    }
+
+    @Test
+    void testMaterialAndPlacementSplitTheRating() {
+        // The knight's value tapered by its game phase of 1
+        Board knight = Board.fromFEN("4k3/8/8/3n4/8/8/8/4K3 b - - 0 1");
+        assertEquals((337 + 281 * 23) / 24, Rating.rateMaterialPosition(knight));
+        assertEquals(0, Rating.rateMaterialPosition(new Board()));
+
+        String[] fens = {
+                "4k3/8/8/3n4/8/8/8/4K3 w - - 0 1",
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1",
+        };
+        for (String fen : fens) {
+            Board board = Board.fromFEN(fen);
+            int split = Rating.rateMaterialPosition(board) + Rating.rateGeneralBoardPosition(board);
+            assertTrue(Math.abs(Rating.rating(board) - split) <= 1, fen);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package chess.engine.evaluation.piece_board_evaluation;
+
+import chess.board.Board;
+import chess.board.Piece;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import chess.engine.evaluation.Rating;
+import chess.engine.evaluation.Score;
+import chess.engine.evaluation.piece_board_evaluation.piece_square_board_rating.KnightSquareBoardRating;
+import chess.engine.evaluation.piece_board_evaluation.piece_square_board_rating.PawnSquareBoardRating;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceSquareTablesTest {
+
+    @Test
+    void testMaterialIsFoldedIntoTheTables() {
+        // e4
+        assertEquals(82 + PawnSquareBoardRating.WHITE_PAWN_MID_GAME_SQUARE_RATING[28],
+                PieceSquareTables.getMidgameValue(PieceType.PAWN, PieceColor.WHITE, 28));
+        assertEquals(281 + KnightSquareBoardRating.WHITE_KNIGHT_END_GAME_SQUARE_RATING[21],
+                PieceSquareTables.getEndgameValue(PieceType.KNIGHT, PieceColor.WHITE, 21));
+    }
+
+    @Test
+    void testBlackMirrorsWhite() {
+        for (int type = 0; type < 6; type++) {
+            for (int square = 0; square < 64; square++) {
+                int white = PieceSquareTables.score(Piece.code(PieceType.values()[type], PieceColor.WHITE), square);
+                int black = PieceSquareTables.score(Piece.code(PieceType.values()[type], PieceColor.BLACK), square ^ 56);
+                assertEquals(white, -black);
+            }
+        }
+        assertEquals(PieceSquareTables.getMidgameValue(PieceType.PAWN, PieceColor.WHITE, 12),
+                PieceSquareTables.getMidgameValue(PieceType.PAWN, PieceColor.BLACK, 52), "e2 for white is e7 for black.");
+    }
+
+    @Test
+    void testEvaluationOfSymmetricPositionsIsZero() {
+        assertEquals(0, Rating.rating(new Board()));
+        assertEquals(0, new Board().getBitboard().getPieceSquareScore());
+
+        Board board = new Board();
+        board.readFEN("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1");
+        assertTrue(Rating.rating(board) < 0, "Black to move is worse off after 1. e4.");
+        assertTrue(Score.midGame(board.getBitboard().getPieceSquareScore()) > 0);
+    }
+}
@@ -0,0 +1,118 @@
+package chess.engine.move_generation;
+
+import chess.ai_player.move_generation.MoveGenerator;
+import chess.board.Board;
+import chess.board.MoveList;
+import chess.board.PackedMove;
+import chess.board.enums.PieceColor;
+import chess.board.enums.PieceType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    private final MoveList moves = new MoveList();
+
+    @Test
+    void testInitialPositionHasTwentyMoves() {
+        Board board = new Board();
+        MoveGenerator.generateAll(board, moves);
+
+        assertEquals(20, moves.size(), "The initial position has 16 pawn moves and 4 knight moves.");
+        assertTrue(moves.contains(PackedMove.encode(12, 28, null, PackedMove.DOUBLE_PAWN_PUSH)), "e2e4 should be generated.");
+        assertTrue(moves.contains(PackedMove.encode(6, 21, null, PackedMove.NORMAL)), "Ng1f3 should be generated.");
+    }
+
+    @Test
+    void testKiwipeteIncludesCastlingAndCaptures() {
+        Board board = new Board();
+        board.readFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        MoveGenerator.generateAll(board, moves);
+
+        assertEquals(48, moves.size(), "Kiwipete has 48 moves for white.");
+        assertTrue(moves.contains(PackedMove.encode(4, 6, null, PackedMove.CASTLING)), "O-O should be generated.");
+        assertTrue(moves.contains(PackedMove.encode(4, 2, null, PackedMove.CASTLING)), "O-O-O should be generated.");
+    }
+
+    @Test
+    void testPromotionsAndEnPassant() {
+        Board board = new Board();
+        board.readFEN("4k3/1P6/8/3pP3/8/8/8/4K3 w - d6 0 1");
+        MoveGenerator.generateAll(board, moves);
+
+        for (PieceType promotion : new PieceType[]{PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT}) {
+            assertTrue(moves.contains(PackedMove.encode(49, 57, promotion, PackedMove.NORMAL)), "b8=" + promotion + " should be generated.");
+        }
+        assertTrue(moves.contains(PackedMove.encode(36, 43, null, PackedMove.EN_PASSANT)), "exd6 en passant should be generated.");
+    }
+
+    @Test
+    void testCastlingThroughAttackedSquareIsNotGenerated() {
+        Board board = new Board();
+        board.readFEN("4k3/8/8/8/8/8/5r2/R3K2R w KQ - 0 1");
+        MoveGenerator.generateAll(board, moves);
+
+        assertFalse(moves.contains(PackedMove.encode(4, 6, null, PackedMove.CASTLING)), "The king may not castle through f1, which the rook attacks.");
+        assertTrue(MoveGenerator.isSquareAttacked(board, 5, PieceColor.BLACK));
+    }
+
+    @Test
+    void testPinnedPieceOnlyMovesAlongThePin() {
+        Board board = new Board();
+        board.readFEN("4k3/8/8/8/4r3/8/4R3/4K3 w - - 0 1");
+        MoveGenerator.generateLegal(board, moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (PackedMove.from(move) == 12) {
+                assertEquals(4, PackedMove.to(move) % 8, "The pinned rook must stay on the e-file: " + PackedMove.toUci(move));
+            }
+        }
+        assertTrue(moves.contains(PackedMove.encode(12, 28, null, PackedMove.NORMAL)), "Capturing the pinning rook is legal.");
+    }
+
+    @Test
+    void testEnPassantExposingTheKingIsIllegal() {
+        Board board = new Board();
+        board.readFEN("8/8/8/K2pP2r/8/8/8/7k w - d6 0 1");
+        MoveGenerator.generateAll(board, moves);
+        assertTrue(moves.contains(PackedMove.encode(36, 43, null, PackedMove.EN_PASSANT)));
+
+        MoveGenerator.generateLegal(board, moves);
+        assertFalse(moves.contains(PackedMove.encode(36, 43, null, PackedMove.EN_PASSANT)),
+                "exd6 would remove both pawns from the fifth rank and expose the king to the rook.");
+    }
+
+    @Test
+    void testDoubleCheckOnlyAllowsKingMoves() {
+        Board board = new Board();
+        board.readFEN("4k3/8/8/8/1b6/8/2N5/r3K3 w - - 0 1");
+        MoveGenerator.generateLegal(board, moves);
+
+        assertFalse(moves.isEmpty());
+        for (int i = 0; i < moves.size(); i++) {
+            assertEquals(4, PackedMove.from(moves.get(i)), "Only the king may move in double check.");
+        }
+    }
+
+    @Test
+    void testNoisyMovesAreTheCapturesAndPromotionsOfTheLegalMoves() {
+        Board board = new Board();
+        board.readFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        MoveList legal = new MoveList();
+        MoveGenerator.generateLegal(board, legal);
+        MoveGenerator.generateLegalNoisy(board, moves);
+
+        int noisy = 0;
+        for (int i = 0; i < legal.size(); i++) {
+            int move = legal.get(i);
+            if (PackedMove.capturedType(move) != null || PackedMove.isPromotion(move)
+                    || PackedMove.flag(move) == PackedMove.EN_PASSANT) {
+                noisy++;
+                assertTrue(moves.contains(move), "Every capture should be a noisy move.");
+            }
+        }
+        assertEquals(noisy, moves.size(), "Kiwipete has 8 captures for white.");
+    }
+}
@@ -0,0 +1,59 @@
+package chess.engine.perft;
+
+import chess.board.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    @Test
+    void testStandardSuiteMatchesKnownCounts() {
+        List<PerftSuite.Position> positions = PerftSuite.load(PerftSuite.STANDARD_SUITE);
+        assertFalse(positions.isEmpty());
+
+        Perft perft = new Perft();
+        for (PerftSuite.Position position : positions) {
+            Board board = new Board();
+            board.readFEN(position.fen());
+            long key = board.getZobristKey();
+            for (int depth = 1; depth <= 3; depth++) {
+                assertEquals(position.expected()[depth - 1], perft.perft(board, depth), position.fen() + " at depth " + depth);
+            }
+            assertEquals(key, board.getZobristKey(), "Perft must leave the position unchanged.");
+        }
+    }
+
+    @Test
+    void testDivideSumsToPerft() {
+        Board board = new Board();
+        board.readFEN(KIWIPETE);
+        Map<String, Long> divide = new Perft().divide(board, 3);
+
+        assertEquals(48, divide.size());
+        assertEquals(97862L, divide.values().stream().mapToLong(Long::longValue).sum());
+        assertTrue(divide.containsKey("e1g1"), "Castling should be one of the root moves.");
+    }
+
+    @Test
+    void testParallelAndHashedPerftMatchSerial() {
+        Board board = new Board();
+        board.readFEN(KIWIPETE);
+
+        assertEquals(4085603L, Perft.parallelPerft(board, 4, null));
+        assertEquals(4085603L, Perft.parallelPerft(board, 4, new PerftHashTable(16)));
+        assertEquals(4085603L, new Perft(new PerftHashTable(16)).perft(board, 4));
+    }
+
+    @Test
+    void testParseEpdLine() {
+        PerftSuite.Position position = PerftSuite.parse("8/8/8/8/8/8/8/K6k w - - 0 1 ;D1 3 ;D2 9");
+        assertEquals("8/8/8/8/8/8/8/K6k w - - 0 1", position.fen());
+        assertArrayEquals(new long[]{3, 9}, position.expected());
+    }
+}
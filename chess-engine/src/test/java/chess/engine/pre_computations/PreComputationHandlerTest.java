@@ -0,0 +1,85 @@
+package chess.engine.pre_computations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreComputationHandlerTest {
+
+    private static final int[][] ROOK_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+    private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    /**
+     * Reference implementation walking every ray until it leaves the board or hits a blocker.
+     */
+    private static long walkRays(int[][] directions, int square, long occupancy) {
+        long attacks = 0L;
+        for (int[] direction : directions) {
+            int rank = square / 8 + direction[0];
+            int file = square % 8 + direction[1];
+            while (rank >= 0 && rank < 8 && file >= 0 && file < 8) {
+                long target = 1L << (rank * 8 + file);
+                attacks |= target;
+                if ((occupancy & target) != 0) break;
+                rank += direction[0];
+                file += direction[1];
+            }
+        }
+        return attacks;
+    }
+
+    @Test
+    void testEmptyBoardRays() {
+        assertEquals(14, Long.bitCount(PreComputationHandler.ROOK_ATTACKS[0]), "Rook on a1 attacks 14 squares on an empty board.");
+        assertEquals(7, Long.bitCount(PreComputationHandler.BISHOP_ATTACKS[0]), "Bishop on a1 attacks 7 squares on an empty board.");
+        assertEquals(27, Long.bitCount(PreComputationHandler.QUEEN_ATTACKS[27]), "Queen on d4 attacks 27 squares on an empty board.");
+    }
+
+    @Test
+    void testRookAttacksStopAtBlockers() {
+        long occupancy = (1L << 3) | (1L << 24); // d1 and a4
+        long attacks = PreComputationHandler.rookAttacks(0, occupancy);
+
+        assertEquals((1L << 1) | (1L << 2) | (1L << 3) | (1L << 8) | (1L << 16) | (1L << 24), attacks,
+                "Rook on a1 should see up to and including the blockers on d1 and a4.");
+    }
+
+    @Test
+    void testSlidingAttacksMatchRayWalkForRandomOccupancies() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            long occupancy = random.nextLong() & random.nextLong();
+            for (int square = 0; square < 64; square++) {
+                assertEquals(walkRays(ROOK_DIRECTIONS, square, occupancy), PreComputationHandler.rookAttacks(square, occupancy),
+                        "Rook attacks differ on square " + square);
+                assertEquals(walkRays(BISHOP_DIRECTIONS, square, occupancy), PreComputationHandler.bishopAttacks(square, occupancy),
+                        "Bishop attacks differ on square " + square);
+            }
+        }
+    }
+
+    @Test
+    void testPawnStructureMasks() {
+        // e4 = 28
+        assertEquals(4, Long.bitCount(PreComputationHandler.WHITE_FORWARD_SPANS[28]), "e5 to e8");
+        assertEquals(3, Long.bitCount(PreComputationHandler.BLACK_FORWARD_SPANS[28]), "e3 to e1");
+        assertEquals(12, Long.bitCount(PreComputationHandler.WHITE_PASSED_PAWN_MASKS[28]), "d5 to f8");
+        assertEquals(8, Long.bitCount(PreComputationHandler.WHITE_PASSED_PAWN_MASKS[24]), "a5 to b8 on the edge");
+        assertEquals(PreComputationHandler.FILES[3] | PreComputationHandler.FILES[5], PreComputationHandler.ADJACENT_FILES[4]);
+        // g1 = 6, g8 = 62: f2 to h3 and f7 to h6
+        assertEquals(0x0000000000E0E000L, PreComputationHandler.WHITE_PAWN_SHIELDS[6]);
+        assertEquals(0x00E0E00000000000L, PreComputationHandler.BLACK_PAWN_SHIELDS[62]);
+    }
+
+    @Test
+    void testFills() {
+        long e4 = 1L << 28;
+        assertEquals(PreComputationHandler.FILES[4], PreComputationHandler.fileFill(e4));
+        assertEquals(PreComputationHandler.WHITE_FORWARD_SPANS[28] | e4, PreComputationHandler.northFill(e4));
+        assertEquals(PreComputationHandler.BLACK_FORWARD_SPANS[28] | e4, PreComputationHandler.southFill(e4));
+        assertEquals(PreComputationHandler.WHITE_PAWN_ATTACKS[28], PreComputationHandler.whitePawnAttacks(e4));
+        assertEquals(PreComputationHandler.BLACK_PAWN_ATTACKS[24], PreComputationHandler.blackPawnAttacks(1L << 24));
+    }
+}
@@ -83,4 +83,26 @@ class GameStateTest {
         assertFalse(gameState.isKingInCheckmate(), "White king should not be in checkmate, has an escape.");
     }
 
-}
\ No newline at end of file
+    @Test
+    void testCheckerCanBeCapturedIsNotCheckmate() {
+        board.getBitboard().placePieceOnSquare(0, PieceType.KING, PieceColor.WHITE);
+        board.getBitboard().placePieceOnSquare(8, PieceType.PAWN, PieceColor.WHITE);
+        board.getBitboard().placePieceOnSquare(9, PieceType.PAWN, PieceColor.WHITE);
+        board.getBitboard().placePieceOnSquare(2, PieceType.ROOK, PieceColor.BLACK);
+        board.getBitboard().placePieceOnSquare(10, PieceType.ROOK, PieceColor.WHITE);
+
+        assertTrue(gameState.isKingInCheck());
+        assertFalse(gameState.isKingInCheckmate(), "The rook on c2 can capture the checking rook on c1.");
+    }
+
+    @Test
+    void testStalemate() {
+        board.getBitboard().placePieceOnSquare(0, PieceType.KING, PieceColor.WHITE);
+        board.getBitboard().placePieceOnSquare(17, PieceType.QUEEN, PieceColor.BLACK);
+
+        assertFalse(gameState.isKingInCheck());
+        assertTrue(gameState.isStalemate(), "White has no legal move but is not in check.");
+        assertFalse(gameState.isKingInCheckmate());
+    }
+
+}
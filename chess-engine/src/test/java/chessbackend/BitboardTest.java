@@ -1,11 +1,15 @@
 package chessbackend;
 
+import chess.board.Bitboard;
 import chess.board.Board;
+import chess.board.Piece;
 import chess.board.enums.PieceColor;
 import chess.board.enums.PieceType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 class BitboardTest {
     Board newBoard = new Board();
 
@@ -68,4 +72,75 @@ class BitboardTest {
 
     }
 
+    @Test
+    void testMailboxFollowsPlaceAndRemove() {
+        assertEquals(Piece.code(PieceType.ROOK, PieceColor.WHITE), newBoard.pieceAt(7), "h1 should hold the white rook.");
+        assertEquals(PieceType.KING, newBoard.getPieceTypeAtSquare(60));
+        assertEquals(PieceColor.BLACK, newBoard.getPieceColorAtSquare(60));
+
+        newBoard.getBitboard().removePieceFromSquare(12, PieceType.PAWN, PieceColor.WHITE);
+        newBoard.getBitboard().placePieceOnSquare(28, PieceType.PAWN, PieceColor.WHITE);
+
+        assertEquals(Piece.EMPTY, newBoard.pieceAt(12), "e2 should be empty after the pawn left.");
+        assertNull(newBoard.getPieceTypeAtSquare(12));
+        assertEquals(PieceType.PAWN, newBoard.getPieceTypeAtSquare(28));
+        assertEquals(PieceColor.WHITE, newBoard.getPieceColorAtSquare(28));
+    }
+
+    @Test
+    void testMailboxFollowsBitboardSetters() {
+        newBoard.getBitboard().setWhitePawns(0L);
+        newBoard.getBitboard().setBlackQueens(1L << 27);
+
+        for (int square = 8; square < 16; square++) {
+            assertEquals(Piece.EMPTY, newBoard.pieceAt(square), "Clearing the pawn bitboard should empty the second rank.");
+        }
+        assertEquals(Piece.EMPTY, newBoard.pieceAt(59), "The black queen left d8.");
+        assertEquals(PieceType.QUEEN, newBoard.getPieceTypeAtSquare(27));
+        assertEquals(PieceColor.BLACK, newBoard.getPieceColorAtSquare(27));
+    }
+
+    @Test
+    void testCachedOccupanciesFollowEveryChange() {
+        Bitboard bitboard = newBoard.getBitboard();
+        assertEquals(0x000000000000FFFFL, bitboard.getOccupancies(PieceColor.WHITE));
+        assertEquals(0xFFFF000000000000L, bitboard.getOccupancies(PieceColor.BLACK));
+        assertEquals(0xFFFF00000000FFFFL, bitboard.getAllOccupancies());
+
+        bitboard.removePieceFromSquare(12, PieceType.PAWN, PieceColor.WHITE);
+        bitboard.placePieceOnSquare(28, PieceType.PAWN, PieceColor.WHITE);
+        bitboard.setBlackQueens(0L);
+
+        long white = 0L, black = 0L;
+        for (PieceType type : PieceType.values()) {
+            white |= bitboard.getBitboardForPieceTypeAndColor(type, PieceColor.WHITE);
+            black |= bitboard.getBitboardForPieceTypeAndColor(type, PieceColor.BLACK);
+        }
+        assertEquals(white, bitboard.getOccupancies(PieceColor.WHITE));
+        assertEquals(black, bitboard.getOccupancies(PieceColor.BLACK));
+        assertEquals(white | black, bitboard.getAllOccupancies());
+        assertEquals(bitboard.getWhitePawns(), bitboard.getBitboard(Piece.WHITE_PAWN));
+    }
+
+    @Test
+    void testSettersKeepTheBoardConsistent() {
+        Bitboard bitboard = newBoard.getBitboard();
+        bitboard.setWhitePawns(0L);
+        bitboard.setBlackPawns(0L);
+        // The black queen leaves d8 for b1, taking the white knight off the board
+        bitboard.setBlackQueens(1L << 1);
+
+        Board fresh = new Board();
+        fresh.readFEN("rnb1kbnr/8/8/8/8/8/8/RqBQKBNR w KQkq - 0 1");
+        Bitboard expected = fresh.getBitboard();
+        assertEquals(0L, bitboard.getWhiteKnights() & 1L << 1, "The knight left its bitboard.");
+        assertEquals(Piece.code(PieceType.QUEEN, PieceColor.BLACK), bitboard.pieceAt(1));
+        assertEquals(expected.getOccupancies(PieceColor.WHITE), bitboard.getOccupancies(PieceColor.WHITE));
+        assertEquals(expected.getOccupancies(PieceColor.BLACK), bitboard.getOccupancies(PieceColor.BLACK));
+        assertEquals(expected.getAllOccupancies(), bitboard.getAllOccupancies());
+        assertEquals(expected.getZobristKey(), bitboard.getZobristKey());
+        assertEquals(expected.getPieceSquareScore(), bitboard.getPieceSquareScore());
+        assertEquals(expected.getGamePhase(), bitboard.getGamePhase());
+        assertEquals(expected, bitboard);
+    }
 }